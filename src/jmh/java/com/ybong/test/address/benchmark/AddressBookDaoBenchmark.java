@@ -0,0 +1,74 @@
+package com.ybong.test.address.benchmark;
+
+import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerUpdate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AddressBookDao 단건 저장/조회 벤치마크
+ * - 고객 수(customers)만큼 등록된 주소록에서 무작위 고객을 ID 조회/전화번호 조회하고, 고르게 뽑은 고객을 수정(PUT)합니다.
+ * - 수정은 미리 만든 두 가지 주소를 번갈아 저장하며, 수정 대상 고객 ID가 겹치지 않아 매번 변경이 있는 수정이 됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookDaoBenchmark {
+
+    private static final int SAMPLES = 4096; // 2의 거듭제곱 (인덱스 마스킹)
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int customers;
+
+    @Param({"object"})
+    private String storage;
+
+    private AddressBookDao dao;
+    private long[] ids;
+    private String[] phoneNumbers;
+    private Customer[][] updates;
+    private int updateMask;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dao = BenchmarkFixtures.loadedDao(storage, customers);
+        ids = BenchmarkFixtures.sampleIds(customers, SAMPLES);
+        phoneNumbers = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            phoneNumbers[i] = BenchmarkFixtures.phoneNumber(ids[i]);
+        }
+        // 수정 대상은 서로 다른 고객 ID (2의 거듭제곱 개, 전체 범위에 고르게 분포)
+        int updateSamples = Integer.highestOneBit(Math.min(customers, SAMPLES));
+        long step = customers / updateSamples;
+        updateMask = updateSamples - 1;
+        updates = new Customer[updateSamples][2];
+        for (int i = 0; i < updateSamples; i++) {
+            long id = 1 + i * step;
+            Customer original = BenchmarkFixtures.customer(id);
+            Customer moved = BenchmarkFixtures.customer(id);
+            moved.setAddress(original.getAddress() + " 101호");
+            updates[i][0] = moved;
+            updates[i][1] = original;
+        }
+    }
+
+    @Benchmark
+    public CustomerUpdate update() {
+        int i = next++;
+        return dao.update(updates[i & updateMask][(i / (updateMask + 1)) & 1]);
+    }
+
+    @Benchmark
+    public Optional<Customer> findById() {
+        return dao.findById(ids[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public Optional<Customer> findByPhoneNumber() {
+        return dao.findByPhoneNumber(phoneNumbers[next++ & (SAMPLES - 1)]);
+    }
+}
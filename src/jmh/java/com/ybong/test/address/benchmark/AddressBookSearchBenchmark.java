@@ -0,0 +1,71 @@
+package com.ybong.test.address.benchmark;
+
+import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.dao.SequenceDao;
+import com.ybong.test.address.mapper.CustomerMapper;
+import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerPage;
+import com.ybong.test.address.service.AddressBookService;
+import com.ybong.test.address.util.MessageUtil;
+import com.ybong.test.address.util.ValidationUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AddressBookService 검색 벤치마크
+ * - 검색 필드(filter) x 정렬 기준(sortBy) x 정렬 방향(sortDir) 조합별로 전체 목록 검색과 첫 페이지 검색을 측정합니다.
+ * - 검색어는 필드마다 일부 고객만 일치하도록 정해 두며, 전체 필드 검색("")은 주소의 도시명으로 검색합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookSearchBenchmark {
+
+    private static final Map<String, String> KEYWORDS = Map.of(
+            "", "서울",
+            "name", "민준",
+            "address", "강남구",
+            "phoneNumber", "0101",
+            "email", "kim12"
+    );
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int customers;
+
+    @Param({"", "name", "address", "phoneNumber", "email"})
+    private String filter;
+
+    @Param({"name", "address", "phoneNumber", "email"})
+    private String sortBy;
+
+    @Param({"asc", "desc"})
+    private String sortDir;
+
+    private AddressBookService service;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MessageUtil messageUtil = BenchmarkFixtures.messageUtil();
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        AddressBookDao dao = BenchmarkFixtures.loadedDao("object", customers);
+        service = new AddressBookService(dao, messageUtil, new SequenceDao(messageUtil),
+                CustomerMapper.INSTANCE, new ValidationUtil(messageUtil, validator), BenchmarkFixtures.metrics());
+        keyword = KEYWORDS.get(filter);
+    }
+
+    @Benchmark
+    public List<Customer> searchCustomers() {
+        return service.searchCustomers(filter, keyword, sortBy, sortDir);
+    }
+
+    @Benchmark
+    public CustomerPage searchFirstPage() {
+        return service.searchCustomerPage(filter, keyword, sortBy, sortDir, 0, 50, null);
+    }
+}
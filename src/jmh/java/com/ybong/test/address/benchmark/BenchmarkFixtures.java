@@ -0,0 +1,140 @@
+package com.ybong.test.address.benchmark;
+
+import com.ybong.test.address.common.AddressBookMetrics;
+import com.ybong.test.address.common.CsvFileReader;
+import com.ybong.test.address.common.CsvFileWriter;
+import com.ybong.test.address.common.CustomerDatasetGenerator;
+import com.ybong.test.address.common.WriteAheadLog;
+import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.dao.SequenceDao;
+import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.util.MessageUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 공통 준비 코드
+ * - 스프링 컨텍스트 없이 DAO/서비스/CSV 입출력 객체를 직접 조립합니다. (변경 로그 미사용)
+ * - 고객 데이터는 시드를 고정한 CustomerDatasetGenerator로 만들므로 같은 고객 수면 매 실행 같은 데이터로 측정합니다.
+ */
+final class BenchmarkFixtures {
+
+    // 벤치마크 데이터 (중복/오류 행 없음)
+    private static final CustomerDatasetGenerator DATASET = new CustomerDatasetGenerator(1);
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * 메시지 프로퍼티를 읽는 MessageUtil을 만듭니다.
+     * @return MessageUtil
+     */
+    static MessageUtil messageUtil() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        return new MessageUtil(messageSource);
+    }
+
+    /**
+     * 고객 수만큼 고객 정보를 등록한 DAO를 만듭니다.
+     * @param storage 저장 방식 (object, compact, offheap)
+     * @param customers 고객 수
+     * @return DAO
+     */
+    static AddressBookDao loadedDao(String storage, int customers) {
+        AddressBookDao dao = new AddressBookDao(messageUtil());
+        dao.setStorage(storage);
+        for (long id = 1; id <= customers; id++) {
+            dao.insert(customer(id));
+        }
+        return dao;
+    }
+
+    /**
+     * CSV 적재 객체를 만듭니다. (변경 로그 미사용)
+     * @param dao 적재 대상 DAO
+     * @return CsvFileReader
+     */
+    static CsvFileReader csvFileReader(AddressBookDao dao) {
+        MessageUtil messageUtil = messageUtil();
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        return new CsvFileReader(dao, new SequenceDao(messageUtil), messageUtil, validator, disabledWriteAheadLog(messageUtil), metrics());
+    }
+
+    /**
+     * CSV 저장 객체를 만듭니다. (변경 로그 미사용)
+     * @param dao 저장 대상 DAO
+     * @return CsvFileWriter
+     */
+    static CsvFileWriter csvFileWriter(AddressBookDao dao) {
+        MessageUtil messageUtil = messageUtil();
+        return new CsvFileWriter(messageUtil, dao, new SequenceDao(messageUtil), disabledWriteAheadLog(messageUtil), metrics());
+    }
+
+    /**
+     * 고객 ID로 정해지는 고객 정보를 만듭니다.
+     * @param id 고객 ID (1 이상)
+     * @return 고객 정보
+     */
+    static Customer customer(long id) {
+        return DATASET.customer(id);
+    }
+
+    /**
+     * 고객 ID에 대응하는 전화번호를 반환합니다.
+     * @param id 고객 ID
+     * @return 010으로 시작하는 11자리 전화번호
+     */
+    static String phoneNumber(long id) {
+        return DATASET.phoneNumber(id);
+    }
+
+    /**
+     * 고객 수만큼의 address.csv를 만듭니다. (customer(id)와 같은 데이터, 전화번호 일부는 하이픈 형식)
+     * @param path 파일 경로
+     * @param customers 고객 수
+     * @throws IOException 파일 저장에 실패했을 경우
+     */
+    static void writeAddressCsv(Path path, int customers) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            DATASET.writeAddressCsv(out, customers);
+        }
+    }
+
+    /**
+     * 조회 대상 고객 ID를 미리 뽑아 둡니다. (측정 중 난수 생성 비용 제외)
+     * @param customers 고객 수
+     * @param count 뽑을 개수
+     * @return 1 ~ customers 범위의 고객 ID
+     */
+    static long[] sampleIds(int customers, int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = random.nextInt(customers) + 1L;
+        }
+        return ids;
+    }
+
+    /**
+     * 지표를 메모리에만 기록하는 AddressBookMetrics를 만듭니다.
+     * @return AddressBookMetrics
+     */
+    static AddressBookMetrics metrics() {
+        return new AddressBookMetrics(new SimpleMeterRegistry());
+    }
+
+    private static WriteAheadLog disabledWriteAheadLog(MessageUtil messageUtil) {
+        WriteAheadLog writeAheadLog = new WriteAheadLog(messageUtil);
+        writeAheadLog.setEnabled(false);
+        return writeAheadLog;
+    }
+}
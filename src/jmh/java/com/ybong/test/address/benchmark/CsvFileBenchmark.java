@@ -0,0 +1,85 @@
+package com.ybong.test.address.benchmark;
+
+import com.ybong.test.address.common.CsvFileReader;
+import com.ybong.test.address.common.CsvFileWriter;
+import com.ybong.test.address.common.CsvMappedReader;
+import com.ybong.test.address.dao.AddressBookDao;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 적재/저장 벤치마크
+ * - load: 고객 수만큼의 address.csv를 빈 주소록에 적재합니다. (CsvFileReader.importAddressCsv의 파일 경로와 같은 메모리 매핑 파서 사용)
+ * - dump: 주소록을 CSV 행으로 변환하여 임시 파일에 쓰고 교체합니다. (CsvFileWriter.overwriteCsv, fsync 포함)
+ * - 한 번 실행에 수 초가 걸리는 작업이므로 단발 실행 시간(SingleShotTime)으로 측정합니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvFileBenchmark {
+
+    /**
+     * 측정 동안 유지하는 주소록과 CSV 파일
+     */
+    @State(Scope.Benchmark)
+    public static class CsvFile {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        private int customers;
+
+        private Path dir;
+        private Path addressCsv;
+        private Path dumpCsv;
+        private AddressBookDao source;
+        private CsvFileWriter writer;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("addressbook-bench");
+            addressCsv = dir.resolve("address.csv");
+            dumpCsv = dir.resolve("address-dump.csv");
+            BenchmarkFixtures.writeAddressCsv(addressCsv, customers);
+            source = BenchmarkFixtures.loadedDao("object", customers);
+            writer = BenchmarkFixtures.csvFileWriter(source);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(addressCsv);
+            Files.deleteIfExists(dumpCsv);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /**
+     * 적재할 빈 주소록 (실행마다 새로 만듦)
+     */
+    @State(Scope.Thread)
+    public static class EmptyAddressBook {
+
+        private AddressBookDao dao;
+        private CsvFileReader reader;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            dao = new AddressBookDao(BenchmarkFixtures.messageUtil());
+            reader = BenchmarkFixtures.csvFileReader(dao);
+        }
+    }
+
+    @Benchmark
+    public CsvFileReader.ImportResult load(CsvFile file, EmptyAddressBook target) throws IOException {
+        try (CsvMappedReader rows = new CsvMappedReader(file.addressCsv, true)) { // 헤더 제외
+            return target.reader.importRows(rows);
+        }
+    }
+
+    @Benchmark
+    public Path dump(CsvFile file) {
+        file.writer.overwriteCsv(file.dumpCsv.toString(), file.source.toCsvLines());
+        return file.dumpCsv;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ybong.test.address.common;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * API 접근 로그 필터
+ * - 요청마다 한 줄(method, uri, status, latency_ms, bytes)을 key=value 형식으로 ACCESS_LOG 로거에 기록합니다.
+ * - 기록은 logback.xml의 비동기 appender가 처리하므로 요청 스레드는 큐에 넣기만 하고, 큐가 가득 차면 기다리지 않고 버립니다.
+ * - 5xx가 아닌 응답은 sampleRate 비율만 기록합니다. (5xx는 항상 기록)
+ * - bytes는 응답 출력 스트림으로 쓴 본문 바이트 수입니다.
+ */
+@Slf4j(topic = "ACCESS_LOG")
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    /** 기록할 요청 비율 (0.0 ~ 1.0) */
+    @Setter
+    @Value("${addressbook.access-log.sample-rate:1.0}")
+    private double sampleRate = 1.0;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!log.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        CountingResponse counting = new CountingResponse(response);
+        try {
+            filterChain.doFilter(request, counting);
+        } finally {
+            int status = response.getStatus();
+            if (status >= 500 || sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                long micros = (System.nanoTime() - start) / 1_000;
+                log.info("method={} uri={} status={} latency_ms={} bytes={}",
+                        request.getMethod(), request.getRequestURI(), status, micros / 1_000.0, counting.bytes);
+            }
+        }
+    }
+
+    /**
+     * 출력 스트림으로 쓴 바이트 수를 세는 응답
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+        private ServletOutputStream outputStream;
+        private long bytes;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
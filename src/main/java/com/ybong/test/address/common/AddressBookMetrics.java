@@ -0,0 +1,69 @@
+package com.ybong.test.address.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주소록 운영 지표 기록
+ * - 서비스 메서드 실행 시간은 @Timed(addressbook.service)로 기록하고, 여기서는 그 밖의 지표를 기록합니다.
+ * - 지표 이름과 태그가 같으면 레지스트리가 같은 미터를 반환하므로, 호출할 때마다 찾아서 기록합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class AddressBookMetrics {
+
+    /** 서비스 메서드 실행 시간 (@Timed 지표 이름) */
+    public static final String SERVICE_TIMER = "addressbook.service";
+
+    private final MeterRegistry registry;
+
+    /**
+     * 검색 결과 건수를 기록합니다.
+     * @param count 검색 조건에 일치한 고객 수
+     */
+    public void recordSearchResults(long count) {
+        DistributionSummary.builder("addressbook.search.results")
+                .description("Number of customers matched by a search")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(count);
+    }
+
+    /**
+     * 오류 응답 건수를 유형별로 셉니다.
+     * @param type 오류 유형 (validation, conflict, not_found, no_change, server)
+     */
+    public void countError(String type) {
+        Counter.builder("addressbook.errors")
+                .description("Error responses by type")
+                .tag("type", type)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 시간 측정을 시작합니다.
+     * @return 측정 시작 시점
+     */
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * 주소록 파일 적재/저장 시간을 기록합니다.
+     * @param sample startTimer로 시작한 측정
+     * @param operation load(적재) 또는 dump(저장)
+     * @param format csv 또는 binary
+     */
+    public void recordFile(Timer.Sample sample, String operation, String format) {
+        sample.stop(Timer.builder("addressbook.file")
+                .description("Address book file load/dump duration")
+                .tag("operation", operation)
+                .tag("format", format)
+                .register(registry));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.util.MessageUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주소록 주기 스냅샷
+ * - addressbook.snapshot.interval-ms 주기로 스케줄러 스레드에서 CsvFileWriter.snapshot을 실행
+ * - 스냅샷마다 반영된 변경 로그 세그먼트가 삭제되므로 재기동 시 재적용할 변경 로그와 백업 파일 수가 일정하게 유지됨
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AddressBookSnapshotter {
+
+    private final CsvFileWriter csvFileWriter;
+    private final MessageUtil messageUtil;
+
+    @Scheduled(fixedDelayString = "${addressbook.snapshot.interval-ms:300000}",
+            initialDelayString = "${addressbook.snapshot.interval-ms:300000}")
+    public void scheduledSnapshot() {
+        try {
+            csvFileWriter.snapshot();
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도하며, 그동안의 변경은 변경 로그에 남아 있음
+            log.error("{}, {}", messageUtil.getMessage("log.snapshot.fail"), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.dao.CustomerSortIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주소록 저장소 크기 지표
+ * - 고객 수, 전화번호/이메일 색인 크기, 검색 색인의 필드별 bigram 수를 수집 시점에 읽습니다.
+ * - 정렬 색인은 크기 계산이 전체 순회이고 항상 고객 수와 같으므로 따로 수집하지 않습니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class AddressBookStoreMetrics implements MeterBinder {
+
+    private final AddressBookDao addressBookDao;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("addressbook.customers", addressBookDao, AddressBookDao::count)
+                .description("Number of stored customers")
+                .register(registry);
+        Gauge.builder("addressbook.index.size", addressBookDao, AddressBookDao::phoneIndexSize)
+                .description("Unique key index entries")
+                .tag("index", "phone")
+                .register(registry);
+        Gauge.builder("addressbook.index.size", addressBookDao, AddressBookDao::emailIndexSize)
+                .description("Unique key index entries")
+                .tag("index", "email")
+                .register(registry);
+        for (String field : CustomerSortIndex.SORT_FIELDS) {
+            Gauge.builder("addressbook.search.grams", addressBookDao, dao -> dao.searchGramCounts().getOrDefault(field, 0))
+                    .description("Distinct bigrams in the search index")
+                    .tag("field", field)
+                    .register(registry);
+        }
+    }
+}
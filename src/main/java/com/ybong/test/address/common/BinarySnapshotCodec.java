@@ -0,0 +1,284 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.model.Customer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 주소록 바이너리 스냅샷 형식
+ * - 헤더(28바이트): 매직(ABS1), 버전, 플래그, 레코드 수, 원본 레코드 바이트의 CRC32, 블록 수
+ * - 본문: 블록(원본 길이, 압축 길이, Deflate 압축 데이터)의 나열
+ * - 레코드: varint 고객ID + 주소/연락처/이메일/이름 각각 (varint 길이 + 1) + UTF-8 바이트 (길이 0은 null)
+ * - 헤더는 본문을 모두 쓴 뒤 레코드 수/CRC를 채워 다시 기록하므로, 쓰는 도중 종료된 파일은 읽을 때 검증에 실패함
+ * - 블록 단위로 독립 압축되어 읽을 때 여러 블록을 병렬로 풀고 해석함
+ */
+public final class BinarySnapshotCodec {
+
+    private static final int MAGIC = 0x41425331; // "ABS1"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 28;
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final int READ_BATCH_BLOCKS = 64;
+    private static final int MAX_BLOCK_SIZE = 64 * 1024 * 1024;
+
+    private BinarySnapshotCodec() {
+    }
+
+    /**
+     * 고객 목록을 바이너리 스냅샷으로 저장합니다. (기존 파일은 덮어씀)
+     * @param path 저장할 파일 경로
+     * @param customers 저장할 고객 목록
+     * @return 저장한 레코드 수
+     * @throws IOException 파일 저장에 실패했을 경우
+     */
+    public static long write(Path path, Iterable<Customer> customers) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.allocate(HEADER_SIZE)); // 헤더 자리 확보
+            BlockWriter writer = new BlockWriter(channel);
+            for (Customer customer : customers) {
+                writer.add(customer);
+            }
+            writer.finish();
+
+            ByteBuffer header = header(writer.count, writer.crc.getValue(), writer.blocks);
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+            return writer.count;
+        }
+    }
+
+    /**
+     * 바이너리 스냅샷을 읽어 고객 정보를 저장 순서대로 전달합니다.
+     * - 레코드 수와 CRC32가 헤더와 일치하는지 확인하며, 불일치하면 예외가 발생합니다.
+     * - 일부 고객이 전달된 뒤 검증에 실패할 수 있으므로 실패 시 호출 측에서 적재를 중단해야 합니다.
+     * @param path 스냅샷 파일 경로
+     * @param consumer 고객 정보를 받을 대상
+     * @return 읽은 레코드 수
+     * @throws IOException 파일을 읽을 수 없거나 형식/체크섬이 맞지 않을 경우
+     */
+    public static long read(Path path, Consumer<Customer> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new IOException("Not an address book snapshot: " + path);
+            }
+            header.getShort(); // 플래그 (예약)
+            long expectedCount = header.getLong();
+            long expectedCrc = header.getLong();
+            int blockCount = header.getInt();
+
+            CRC32 crc = new CRC32();
+            long count = 0;
+            int remaining = blockCount;
+            while (remaining > 0) {
+                // 여러 블록을 읽어 병렬로 압축 해제/해석한 뒤 순서대로 전달
+                List<byte[][]> batch = new ArrayList<>(Math.min(remaining, READ_BATCH_BLOCKS));
+                while (remaining > 0 && batch.size() < READ_BATCH_BLOCKS) {
+                    ByteBuffer blockHeader = readFully(channel, 8);
+                    int rawLength = blockHeader.getInt();
+                    int compressedLength = blockHeader.getInt();
+                    if (rawLength < 0 || rawLength > MAX_BLOCK_SIZE || compressedLength < 0 || compressedLength > MAX_BLOCK_SIZE) {
+                        throw new IOException("Corrupt address book snapshot: " + path);
+                    }
+                    batch.add(new byte[][]{readFully(channel, compressedLength).array(), new byte[rawLength]});
+                    remaining--;
+                }
+                List<List<Customer>> decoded;
+                try {
+                    decoded = batch.parallelStream().map(BinarySnapshotCodec::decodeBlock).toList();
+                } catch (IllegalStateException | IndexOutOfBoundsException e) {
+                    throw new IOException("Corrupt address book snapshot: " + path, e);
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    crc.update(batch.get(i)[1]);
+                    for (Customer customer : decoded.get(i)) {
+                        consumer.accept(customer);
+                        count++;
+                    }
+                }
+            }
+            if (count != expectedCount || crc.getValue() != expectedCrc) {
+                throw new IOException("Corrupt address book snapshot: " + path);
+            }
+            return count;
+        }
+    }
+
+    private static ByteBuffer header(long count, long crc, int blocks) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                .putLong(count).putLong(crc).putInt(blocks)
+                .flip();
+        return header;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of snapshot");
+            }
+        }
+        return buffer.flip();
+    }
+
+    // 블록 압축 해제 후 레코드 해석 ({압축 데이터, 원본 버퍼} 중 원본 버퍼를 채움)
+    private static List<Customer> decodeBlock(byte[][] block) {
+        byte[] raw = block[1];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(block[0]);
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                int n = inflater.inflate(raw, length, raw.length - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if (length != raw.length) {
+                throw new IllegalStateException("Corrupt snapshot block");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt snapshot block", e);
+        } finally {
+            inflater.end();
+        }
+
+        List<Customer> customers = new ArrayList<>();
+        int[] pos = {0};
+        while (pos[0] < raw.length) {
+            customers.add(Customer.builder()
+                    .id(readVarLong(raw, pos))
+                    .address(readString(raw, pos))
+                    .phoneNumber(readString(raw, pos))
+                    .email(readString(raw, pos))
+                    .name(readString(raw, pos))
+                    .build());
+        }
+        return customers;
+    }
+
+    private static long readVarLong(byte[] raw, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = raw[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static String readString(byte[] raw, int[] pos) {
+        int length = (int) readVarLong(raw, pos) - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(raw, pos[0], length, StandardCharsets.UTF_8);
+        pos[0] += length;
+        return value;
+    }
+
+    /**
+     * 레코드를 블록 단위로 모아 압축하여 기록
+     */
+    private static final class BlockWriter {
+        private final FileChannel channel;
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final CRC32 crc = new CRC32();
+        private byte[] raw = new byte[BLOCK_SIZE + 1024];
+        private byte[] compressed = new byte[BLOCK_SIZE + 1024];
+        private int length;
+        private long count;
+        private int blocks;
+
+        BlockWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void add(Customer customer) throws IOException {
+            writeVarLong(customer.getId());
+            writeString(customer.getAddress());
+            writeString(customer.getPhoneNumber());
+            writeString(customer.getEmail());
+            writeString(customer.getName());
+            count++;
+            if (length >= BLOCK_SIZE) {
+                flushBlock();
+            }
+        }
+
+        void finish() throws IOException {
+            if (length > 0) {
+                flushBlock();
+            }
+            deflater.end();
+        }
+
+        private void flushBlock() throws IOException {
+            crc.update(raw, 0, length);
+            deflater.reset();
+            deflater.setInput(raw, 0, length);
+            deflater.finish();
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                if (compressedLength == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+            }
+            ByteBuffer block = ByteBuffer.allocate(8 + compressedLength);
+            block.putInt(length).putInt(compressedLength).put(compressed, 0, compressedLength).flip();
+            while (block.hasRemaining()) {
+                channel.write(block);
+            }
+            length = 0;
+            blocks++;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                raw[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            raw[length++] = (byte) value;
+        }
+
+        private void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, raw, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private void ensure(int size) {
+            if (length + size > raw.length) {
+                raw = Arrays.copyOf(raw, Math.max(raw.length * 2, length + size));
+            }
+        }
+    }
+}
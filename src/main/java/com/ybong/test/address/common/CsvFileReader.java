@@ -1,15 +1,18 @@
 package com.ybong.test.address.common;
 
+import com.ybong.test.address.dao.AddressBookChangeListener;
 import com.ybong.test.address.dao.SequenceDao;
-import com.ybong.test.address.service.AddressBookService;
+import com.ybong.test.address.exception.ConflictException;
 import com.ybong.test.address.util.MessageUtil;
-import com.ybong.test.address.util.ValidationUtil;
 import lombok.extern.slf4j.Slf4j;
 import com.ybong.test.address.dao.AddressBookDao;
 import com.ybong.test.address.model.Customer;
 import com.ybong.test.address.model.Sequence;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
@@ -18,77 +21,272 @@ import org.springframework.validation.Validator;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class CsvFileReader {
 
+    private static final int IMPORT_CHUNK_SIZE = 10_000;
+    private static final String ADDRESS_SEQUENCE = "address";
+    private static final String ADDRESS_CSV = "address.csv";
+    private static final String SEQUENCE_CSV = "sequence.csv";
+    private static final String BUNDLED_CSV_DIR = "csv/";
+
     private final AddressBookDao addressBookDao;
-    private final AddressBookService addressBookService;
     private final SequenceDao sequenceDao;
     private final MessageUtil messageUtil;
     private final Validator validator;
-    private final ValidationUtil validationUtil;
+    private final WriteAheadLog writeAheadLog;
+    private final AddressBookMetrics metrics;
+
+    /** 주소록/시퀀스 CSV 디렉토리 (CsvFileWriter가 스냅샷을 저장하는 위치와 같음) */
+    @Setter
+    @Value("${addressbook.csv.dir:src/main/resources/csv}")
+    private String csvDir = "src/main/resources/csv";
+
+    @Value("${addressbook.snapshot.format:csv}")
+    private String snapshotFormat = "csv";
 
+    @Value("${addressbook.snapshot.binary-path:src/main/resources/csv/address.snapshot}")
+    private String binarySnapshotPath = "src/main/resources/csv/address.snapshot";
+
+    /**
+     * 기동 시 데이터를 적재합니다.
+     * - 시퀀스 -> 주소록 CSV -> 변경 로그 재적용 순으로 처리한 뒤 변경 로그 기록을 시작합니다.
+     * @throws IOException 파일을 읽을 수 없을 경우
+     */
     @PostConstruct
+    public void init() throws IOException {
+        initSequence();
+        initAddressBook();
+        replayWriteAheadLog();
+    }
+
     public void initAddressBook() throws IOException {
         try {
-            List<String> lines = read("csv/address.csv");
+            Path snapshot = Paths.get(binarySnapshotPath);
+            boolean binary = "binary".equalsIgnoreCase(snapshotFormat) && Files.isRegularFile(snapshot);
+            Timer.Sample sample = metrics.startTimer();
+            ImportResult result = binary ? importBinarySnapshot(snapshot) : importAddressCsv(ADDRESS_CSV);
+            metrics.recordFile(sample, "load", binary ? "binary" : "csv");
+            addressBookDao.markClean(addressBookDao.getModCount()); // CSV 내용과 같은 상태
+            log.info("{} ({}/{})", messageUtil.getMessage("log.csv.read.success"), result.saved(), result.total());
 
-            boolean firstLine = true;
-            Long saveCnt = 0L;
-            for (String line : lines) {
-                if (firstLine) {
-                    firstLine = false;
-                    continue;
-                }
+        } catch (Exception e) {
+            log.error("{}, {}", messageUtil.getMessage("log.csv.read.fail"), e.getMessage());
+            throw e;
+        }
+    }
 
-                String[] fields = line.split(",", -1);
-                if (fields.length != 5) {
-                    log.warn("{} - {}", messageUtil.getMessage("log.csv.invalid.field"), line);
-                    continue;
-                }
+    /**
+     * 바이너리 스냅샷을 읽어 등록합니다.
+     * - 스냅샷은 검증을 마친 데이터를 저장한 것이고 체크섬으로 손상 여부를 확인하므로, 행 단위 검증과 고유키 확인 없이 적재합니다.
+     * - 바이너리 형식을 설정했지만 스냅샷이 아직 없으면 CSV에서 적재하고, 다음 스냅샷부터 바이너리로 저장됩니다.
+     * @param path 스냅샷 파일 경로
+     * @return 등록 결과 (등록 건수/전체 건수)
+     * @throws IOException 파일을 읽을 수 없거나 손상되었을 경우
+     */
+    public ImportResult importBinarySnapshot(Path path) throws IOException {
+        long count = BinarySnapshotCodec.read(path, addressBookDao::restore);
+        return new ImportResult(count, count);
+    }
 
-                Customer customer = Customer.builder()
-                        .id(Long.parseLong(fields[0].trim()))
-                        .address(fields[1].trim())
-                        .phoneNumber(fields[2].trim().replace("-", ""))
-                        .email(fields[3].trim())
-                        .name(fields[4].trim())
-                        .build();
+    /**
+     * 주소록 CSV 파일을 읽어 등록합니다.
+     * - CSV 디렉토리(addressbook.csv.dir)의 파일을 읽고, 아직 저장된 파일이 없으면(최초 기동 등) 클래스패스의 csv/ 파일을 읽습니다.
+     * - 파일 시스템의 파일이면 메모리 매핑 파서(CsvMappedReader)로 바이트를 직접 파싱합니다.
+     * - jar 내부 리소스 등 파일로 열 수 없으면 한 줄씩 읽는 방식으로 처리합니다.
+     * @param filename CSV 디렉토리 기준 파일명
+     * @return 등록 결과 (등록 건수/전체 건수)
+     * @throws IOException 파일을 읽을 수 없을 경우
+     */
+    public ImportResult importAddressCsv(String filename) throws IOException {
+        Path path = Paths.get(csvDir, filename);
+        if (!Files.isRegularFile(path)) {
+            path = resolveFile(BUNDLED_CSV_DIR + filename);
+        }
+        if (path != null) {
+            try (CsvMappedReader reader = new CsvMappedReader(path, true)) { // 헤더 제외
+                return importRows(reader);
+            }
+        }
+        try (BufferedReader br = open(BUNDLED_CSV_DIR + filename)) {
+            return importCustomers(br.lines().skip(1).iterator()); // 헤더 제외
+        }
+    }
 
-                // 데이터 검증
-                BindingResult bindingResult = new BeanPropertyBindingResult(customer, "Customer");
-                validator.validate(customer, bindingResult);
-                try {
-                    validationUtil.validateBindingResultOrThrow(bindingResult);
-                    addressBookService.validateAllConflict(customer);
-                } catch (Exception e) {
-                    log.warn("{} - {}", messageUtil.getMessage("log.csv.invalid"), line);
-                    continue;
+    /**
+     * CSV 데이터 행을 읽어 주소록에 등록합니다.
+     * - IMPORT_CHUNK_SIZE 행 단위로 나누어 파싱/검증은 병렬로 처리하고, 등록은 파일 순서대로 처리합니다.
+     * - 다음 청크를 읽는 동안 이전 청크를 검증하여 읽기와 검증을 겹쳐 수행합니다.
+     * - 중복(ID/전화번호/이메일)은 DAO 등록 시 고유키 선점으로 판별하므로 먼저 나온 행이 등록됩니다.
+     * @param lines 헤더를 제외한 CSV 행
+     * @return 등록 결과 (등록 건수/전체 건수)
+     */
+    public ImportResult importCustomers(Iterator<String> lines) {
+        Iterator<List<String>> chunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                List<String> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+                while (lines.hasNext() && chunk.size() < IMPORT_CHUNK_SIZE) {
+                    chunk.add(lines.next());
                 }
+                return chunk;
+            }
+        };
+        return importChunks(chunks, line -> parseFields(line.split(",", -1), line));
+    }
+
+    /**
+     * 필드 단위로 파싱된 CSV 행 묶음을 주소록에 등록합니다. (검증/등록 방식은 importCustomers와 동일)
+     * @param rows 헤더를 제외한 행(필드 배열) 묶음
+     * @return 등록 결과 (등록 건수/전체 건수)
+     */
+    public ImportResult importRows(Iterator<List<String[]>> rows) {
+        return importChunks(rows, fields -> parseFields(fields, null));
+    }
 
-                addressBookDao.save(customer);
-                saveCnt++;
+    // 청크 단위 파이프라인: 다음 청크를 읽는 동안 이전 청크를 병렬 검증하고, 등록은 순서대로
+    private <T> ImportResult importChunks(Iterator<List<T>> chunks, Function<T, ParsedRow> parser) {
+        long total = 0;
+        long saved = 0;
+        CompletableFuture<List<ParsedRow>> pending = null;
+        while (chunks.hasNext()) {
+            List<T> chunk = chunks.next();
+            total += chunk.size();
+            CompletableFuture<List<ParsedRow>> parsing = CompletableFuture.supplyAsync(
+                    () -> chunk.parallelStream().map(parser).toList());
+            if (pending != null) {
+                saved += saveRows(pending.join());
             }
-            addressBookDao.setAddressBook_init();
-            log.info("{} ({}/{})", messageUtil.getMessage("log.csv.read.success"), saveCnt, lines.size() - 1);
+            pending = parsing;
+        }
+        if (pending != null) {
+            saved += saveRows(pending.join());
+        }
+        return new ImportResult(saved, total);
+    }
 
-        } catch (Exception e) {
-            log.error("{}, {}", messageUtil.getMessage("log.csv.read.fail"), e.getMessage());
-            throw e;
+    // CSV 한 행의 필드를 고객 정보로 변환하고 검증 (병렬 실행, 공유 상태 없음, line이 null이면 로그 출력 시 필드로 복원)
+    private ParsedRow parseFields(String[] fields, String line) {
+        if (fields.length != 5) {
+            return new ParsedRow(line, fields, null, "log.csv.invalid.field");
+        }
+
+        Customer customer;
+        try {
+            customer = Customer.builder()
+                    .id(Long.parseLong(fields[0].trim()))
+                    .address(fields[1].trim())
+                    .phoneNumber(fields[2].trim().replace("-", ""))
+                    .email(fields[3].trim())
+                    .name(fields[4].trim())
+                    .build();
+        } catch (NumberFormatException e) {
+            return new ParsedRow(line, fields, null, "log.csv.invalid");
         }
+
+        // 데이터 검증
+        BindingResult bindingResult = new BeanPropertyBindingResult(customer, "Customer");
+        validator.validate(customer, bindingResult);
+        if (bindingResult.hasErrors()) {
+            return new ParsedRow(line, fields, null, "log.csv.invalid");
+        }
+        return new ParsedRow(line, fields, customer, null);
+    }
+
+    // 검증된 행을 청크 단위로 한 번에 등록(insertAll, 리스너 후처리 1회)하고, 건너뛴 행은 파일 순서대로 사유와 함께 기록
+    private long saveRows(List<ParsedRow> rows) {
+        List<Customer> customers = new ArrayList<>(rows.size());
+        for (ParsedRow row : rows) {
+            if (row.skipReason() == null) {
+                customers.add(row.customer());
+            }
+        }
+        List<ConflictException> conflicts = customers.isEmpty() ? List.of() : addressBookDao.insertAll(customers);
+
+        long saved = 0;
+        int inserted = 0;
+        for (ParsedRow row : rows) {
+            if (row.skipReason() != null) {
+                log.warn("{} - {}", messageUtil.getMessage(row.skipReason()), row.source());
+            } else if (conflicts.get(inserted++) != null) {
+                log.warn("{} - {}", messageUtil.getMessage("log.csv.invalid"), row.source());
+            } else {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    // CSV 행 파싱 결과 (skipReason이 있으면 건너뛸 행)
+    private record ParsedRow(String line, String[] fields, Customer customer, String skipReason) {
+
+        // 로그 출력용 원본 행 (메모리 매핑 파서로 읽은 행은 필드를 다시 이어 붙임)
+        String source() {
+            return line != null ? line : String.join(",", fields);
+        }
+    }
+
+    /**
+     * CSV 등록 결과
+     * @param saved 등록 건수
+     * @param total 전체 데이터 행 수
+     */
+    public record ImportResult(long saved, long total) {
+    }
+
+    /**
+     * 마지막 CSV 저장 이후 변경 로그에 기록된 변경을 재적용하고, 이후 변경을 기록하도록 DAO에 연결합니다.
+     * - 재적용한 고객 ID까지 시퀀스를 올려 기존 ID가 다시 발번되지 않도록 합니다.
+     * @throws IOException 변경 로그를 읽거나 열 수 없을 경우
+     */
+    public void replayWriteAheadLog() throws IOException {
+        if (!writeAheadLog.isEnabled()) {
+            return;
+        }
+        AtomicLong maxId = new AtomicLong();
+        long replayed = writeAheadLog.replay(new AddressBookChangeListener() {
+            @Override
+            public void onSave(Customer customer) {
+                addressBookDao.restore(customer);
+                maxId.accumulateAndGet(customer.getId(), Math::max);
+            }
+
+            @Override
+            public void onDelete(Customer customer) {
+                addressBookDao.delete(customer);
+                maxId.accumulateAndGet(customer.getId(), Math::max);
+            }
+        });
+        sequenceDao.advanceTo(ADDRESS_SEQUENCE, maxId.get());
+        writeAheadLog.open();
+        addressBookDao.setChangeListener(writeAheadLog);
+        log.info("{} ({})", messageUtil.getMessage("log.wal.replay.success"), replayed);
     }
 
-    @PostConstruct
     public void initSequence() {
         try {
-            List<String> lines = read("csv/sequence.csv");
+            List<String> lines = read(SEQUENCE_CSV);
 
             boolean firstLine = true;
             for (String line : lines) {
@@ -118,14 +316,52 @@ public class CsvFileReader {
         }
     }
 
+    /**
+     * CSV 파일의 모든 행을 읽습니다. (CSV 디렉토리에 없으면 클래스패스의 csv/ 파일)
+     * @param filename CSV 디렉토리 기준 파일명
+     * @return 파일의 행
+     * @throws IOException 파일을 읽을 수 없을 경우
+     */
     public List<String> read(String filename) throws IOException {
+        Path path = Paths.get(csvDir, filename);
+        if (Files.isRegularFile(path)) {
+            return Files.readAllLines(path, StandardCharsets.UTF_8);
+        }
         List<String> lines = new ArrayList<>();
-        InputStreamReader in = new InputStreamReader(Objects.requireNonNull(this.getClass().getClassLoader().getResourceAsStream(filename)), StandardCharsets.UTF_8);
-        BufferedReader br = new BufferedReader(in);
-        String line;
-        while ((line = br.readLine()) != null) {
-            lines.add(line);
+        try (BufferedReader br = open(BUNDLED_CSV_DIR + filename)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                lines.add(line);
+            }
         }
         return lines;
     }
+
+    /**
+     * 클래스패스의 CSV 파일을 한 줄씩 읽을 수 있도록 엽니다.
+     * @param filename 파일명
+     * @return UTF-8 BufferedReader
+     */
+    public BufferedReader open(String filename) {
+        InputStreamReader in = new InputStreamReader(Objects.requireNonNull(this.getClass().getClassLoader().getResourceAsStream(filename)), StandardCharsets.UTF_8);
+        return new BufferedReader(in);
+    }
+
+    /**
+     * 클래스패스의 CSV 파일이 파일 시스템에 있으면 경로를 반환합니다.
+     * @param filename 파일명
+     * @return 파일 경로, 파일로 열 수 없으면(jar 내부 등) null
+     */
+    public Path resolveFile(String filename) {
+        URL url = this.getClass().getClassLoader().getResource(filename);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            Path path = Path.of(url.toURI());
+            return Files.isRegularFile(path) ? path : null;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
 }
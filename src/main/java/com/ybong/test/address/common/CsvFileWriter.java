@@ -2,9 +2,13 @@ package com.ybong.test.address.common;
 
 import com.ybong.test.address.dao.AddressBookDao;
 import com.ybong.test.address.dao.SequenceDao;
+import com.ybong.test.address.dao.VersionedCustomerStore;
 import com.ybong.test.address.util.MessageUtil;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 
@@ -14,39 +18,116 @@ import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class CsvFileWriter {
 
+    private static final String ADDRESS_CSV = "address.csv";
+    private static final String SEQUENCE_CSV = "sequence.csv";
+    private static final String BACKUP_DIR = "address_backup";
+    private static final String BACKUP_SUFFIX = ".bak_";
+
     private final MessageUtil messageUtil;
     private final AddressBookDao addressBookDao;
     private final SequenceDao sequenceDao;
+    private final WriteAheadLog writeAheadLog;
+    private final AddressBookMetrics metrics;
+
+    /** 주소록/시퀀스 CSV 디렉토리 (CsvFileReader가 기동 시 읽는 위치와 같음) */
+    @Setter
+    @Value("${addressbook.csv.dir:src/main/resources/csv}")
+    private String csvDir = "src/main/resources/csv";
+
+    /** 스냅샷 형식 (csv: address.csv, binary: BinarySnapshotCodec 형식) */
+    @Setter
+    @Value("${addressbook.snapshot.format:csv}")
+    private String snapshotFormat = "csv";
+
+    @Setter
+    @Value("${addressbook.snapshot.binary-path:src/main/resources/csv/address.snapshot}")
+    private String binarySnapshotPath = "src/main/resources/csv/address.snapshot";
+
+    /** 보관할 백업 세대 수 (오래된 백업부터 삭제) */
+    @Setter
+    @Value("${addressbook.snapshot.backups:5}")
+    private int backupGenerations = 5;
 
     @PreDestroy
     public void saveDataOnShutdown() {
-        String addressCsvPath = "src/main/resources/csv/address.csv";
-        String sequenceCsvPath = "src/main/resources/csv/sequence.csv";
         String saveMessage = "변경된 데이터가 없어 저장하지 않습니다.";
-        if (!addressBookDao.toCsvLines().equals(addressBookDao.getAddressBook_init())) {
-            backupAndOverwriteCsv(addressCsvPath, addressBookDao.toCsvLines());
-            overwriteCsv(sequenceCsvPath, sequenceDao.toCsvLines());
-            saveMessage = "데이터가 CSV 파일에 저장되었습니다.";
+        try {
+            if (snapshot()) {
+                saveMessage = "데이터가 CSV 파일에 저장되었습니다.";
+            }
+        } catch (IOException | RuntimeException e) {
+            // 저장에 실패해도 변경 로그가 남아 있으므로 재기동 시 복구됨
+            log.error("{}: {}", messageUtil.getMessage("log.csv.write.fail"), Paths.get(csvDir, ADDRESS_CSV), e);
+            saveMessage = "CSV 저장에 실패하여 변경 로그로 복구합니다.";
         }
+        writeAheadLog.close();
         System.out.println("\n**************************************************");
         System.out.println("   [프로그램 종료] " + saveMessage);
         System.out.println("**************************************************\n");
     }
 
+    /**
+     * 주소록 스냅샷을 저장합니다.
+     * - 변경 로그를 새 세그먼트로 전환한 뒤 현재 주소록을 CSV로 저장하고, 스냅샷에 포함된 이전 세그먼트를 삭제합니다.
+     * - CSV는 기동 시 CsvFileReader가 읽는 파일(addressbook.csv.dir)에 저장하므로, 삭제한 세그먼트의 변경은 다음 기동 시 읽는 파일에 들어 있습니다.
+     * - 주소록은 스냅샷으로 읽으므로 저장 중에도 등록/수정/삭제가 멈추지 않으며, 한 시점의 고객 목록이 저장됩니다.
+     * - 파일은 임시 파일에 쓴 뒤 원자적으로 교체하므로 저장 도중 종료되어도 이전 CSV가 보존됩니다.
+     * @return 저장 여부 (변경이 없으면 false)
+     * @throws IOException 파일 저장에 실패했을 경우
+     */
+    public synchronized boolean snapshot() throws IOException {
+        if (!addressBookDao.isDirty()) {
+            return false;
+        }
+        long segment = writeAheadLog.rotate(); // -1: 변경 로그 미사용 또는 전환할 기록 없음
+        long modCount = addressBookDao.getModCount(); // 저장 중 발생한 변경은 다음 스냅샷 대상으로 남김
+        long count;
+        boolean binary = "binary".equalsIgnoreCase(snapshotFormat);
+        Files.createDirectories(Paths.get(csvDir));
+        Timer.Sample sample = metrics.startTimer();
+        if (binary) {
+            count = backupAndOverwriteBinary(binarySnapshotPath);
+        } else {
+            List<String> lines = addressBookDao.toCsvLines();
+            backupAndOverwriteCsv(Paths.get(csvDir, ADDRESS_CSV).toString(), lines);
+            count = lines.size() - 1;
+        }
+        metrics.recordFile(sample, "dump", binary ? "binary" : "csv");
+        overwriteCsv(Paths.get(csvDir, SEQUENCE_CSV).toString(), sequenceDao.toCsvLines());
+        addressBookDao.markClean(modCount);
+        if (segment > 0) {
+            writeAheadLog.deleteSegmentsBefore(segment);
+        }
+        log.info("{} ({})", messageUtil.getMessage("log.snapshot.success"), count);
+        return true;
+    }
 
+    /**
+     * CSV 파일을 임시 파일에 쓰고 fsync한 뒤 원자적으로 교체합니다.
+     * @param filename 파일명
+     * @param lines 저장할 행
+     */
     public void overwriteCsv(String filename, List<String> lines) {
-        try (BufferedWriter writer = Files.newBufferedWriter(
-                Paths.get(filename), StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
-            for (String line : lines) {
-                writer.write(line);
-                writer.newLine();
+        Path target = Paths.get(filename);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (FileOutputStream out = new FileOutputStream(temp.toFile());
+                 BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+                writer.flush();
+                out.getChannel().force(true);
             }
+            moveAtomically(temp, target);
             log.info("{}: {}", messageUtil.getMessage("log.csv.write.success"), filename);
         } catch (IOException e) {
             log.error("{}: {}", messageUtil.getMessage("log.csv.write.fail"), filename, e);
@@ -54,21 +135,15 @@ public class CsvFileWriter {
         }
     }
 
+    /**
+     * 기존 CSV 파일을 백업한 뒤 새 내용으로 교체합니다.
+     * - 백업은 복사 대신 하드 링크로 만들고(지원하지 않으면 복사), backupGenerations 세대만 보관합니다.
+     * @param filename 파일명
+     * @param lines 저장할 행
+     */
     public void backupAndOverwriteCsv(String filename, List<String> lines) {
         try {
-            Path originPath = Paths.get(filename);
-            String backupDir = "src/main/resources/csv/address_backup";
-            Files.createDirectories(Paths.get(backupDir));
-            String baseFileName = Paths.get(filename).getFileName().toString();
-            String backupFile = backupDir + "/" + baseFileName
-                    + ".bak_" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            Path backupPath = Paths.get(backupFile);
-
-            if (Files.exists(originPath)) {
-                Files.copy(originPath, backupPath, StandardCopyOption.REPLACE_EXISTING);
-                log.info("{}: {}", messageUtil.getMessage("log.csv.backup.success"), backupFile);
-            }
-
+            backup(Paths.get(filename));
             overwriteCsv(filename, lines);
 
         } catch (IOException e) {
@@ -76,4 +151,68 @@ public class CsvFileWriter {
             throw new RuntimeException(messageUtil.getMessage("log.csv.backup.fail"), e);
         }
     }
+
+    /**
+     * 기존 바이너리 스냅샷을 백업한 뒤 현재 주소록을 바이너리 형식으로 저장합니다. (임시 파일에 쓴 뒤 원자적 교체)
+     * @param filename 파일명
+     * @return 저장한 고객 수
+     */
+    public long backupAndOverwriteBinary(String filename) {
+        Path target = Paths.get(filename);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            backup(target);
+            long count;
+            try (VersionedCustomerStore.Snapshot snapshot = addressBookDao.openSnapshot()) {
+                count = BinarySnapshotCodec.write(temp, snapshot);
+            }
+            moveAtomically(temp, target);
+            log.info("{}: {}", messageUtil.getMessage("log.csv.write.success"), filename);
+            return count;
+        } catch (IOException e) {
+            log.error("{}: {}", messageUtil.getMessage("log.csv.write.fail"), filename, e);
+            throw new RuntimeException(messageUtil.getMessage("log.csv.write.fail"), e);
+        }
+    }
+
+    // 기존 파일을 백업 디렉토리에 시각을 붙여 보관 (하드 링크, 지원하지 않으면 복사)
+    private void backup(Path originPath) throws IOException {
+        if (!Files.exists(originPath)) {
+            return;
+        }
+        Path backupDir = Paths.get(csvDir, BACKUP_DIR);
+        Files.createDirectories(backupDir);
+        String baseFileName = originPath.getFileName().toString();
+        Path backupPath = backupDir.resolve(baseFileName
+                + BACKUP_SUFFIX + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmssSSS")));
+        try {
+            Files.createLink(backupPath, originPath);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(originPath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        log.info("{}: {}", messageUtil.getMessage("log.csv.backup.success"), backupPath);
+        pruneBackups(baseFileName);
+    }
+
+    // 오래된 백업부터 삭제하여 backupGenerations 세대만 남김 (파일명의 시각 순 정렬)
+    private void pruneBackups(String baseFileName) throws IOException {
+        List<Path> backups;
+        try (Stream<Path> files = Files.list(Paths.get(csvDir, BACKUP_DIR))) {
+            backups = files.filter(file -> file.getFileName().toString().startsWith(baseFileName + BACKUP_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < backups.size() - Math.max(backupGenerations, 1); i++) {
+            Files.deleteIfExists(backups.get(i));
+        }
+    }
+
+    // 같은 디렉토리 안에서 원자적 교체 (파일 시스템이 지원하지 않으면 일반 교체)
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 }
@@ -0,0 +1,237 @@
+package com.ybong.test.address.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+/**
+ * 메모리 매핑 기반 CSV 파서
+ * - 파일을 FileChannel.map으로 구간(REGION_SIZE) 단위 매핑하고, UTF-8 바이트에서 직접 구분자(',', '\n')를 찾음
+ * - 행 문자열/split 배열을 만들지 않고 공백을 제거한 필드 구간만 문자열로 변환
+ * - 큰따옴표로 감싼 필드("a,b", "" 이스케이프)와 헤더 앞 공백/BOM/CRLF 처리
+ * - 한 구간은 줄바꿈 경계로 나누어 병렬로 파싱하며, 결과 행 순서는 파일 순서를 유지
+ * - 따옴표 안의 줄바꿈은 지원하지 않음 (기존 한 줄 단위 읽기와 동일)
+ */
+public class CsvMappedReader implements Iterator<List<String[]>>, Closeable {
+
+    private static final long REGION_SIZE = 64L * 1024 * 1024;
+    private static final int MIN_SEGMENT_SIZE = 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long regionSize;
+    private long position;
+    private boolean skipHeader;
+
+    /**
+     * CSV 파일을 엽니다.
+     * @param path 파일 경로
+     * @param skipHeader 첫 행(헤더) 건너뛰기 여부
+     * @throws IOException 파일을 열 수 없을 경우
+     */
+    public CsvMappedReader(Path path, boolean skipHeader) throws IOException {
+        this(path, skipHeader, REGION_SIZE);
+    }
+
+    CsvMappedReader(Path path, boolean skipHeader, long regionSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.regionSize = regionSize;
+        this.skipHeader = skipHeader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < fileSize;
+    }
+
+    /**
+     * 다음 구간의 행 목록을 파싱합니다.
+     * @return 파일 순서대로 정렬된 행(필드 배열) 목록
+     */
+    @Override
+    public List<String[]> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            long length = Math.min(regionSize, fileSize - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            int start = 0;
+            if (position == 0) {
+                start = skipBom(buffer);
+            }
+            // 마지막 구간이 아니면 마지막 줄바꿈까지만 처리하고 나머지는 다음 구간에서 다시 매핑
+            int end = (int) length;
+            if (position + length < fileSize) {
+                end = lastNewline(buffer, start, end) + 1;
+                if (end <= start) {
+                    throw new IOException("CSV line exceeds region size at offset " + position);
+                }
+            }
+            if (skipHeader) {
+                start = nextLineStart(buffer, start, end);
+                skipHeader = false;
+            }
+            List<String[]> rows = parseParallel(buffer, start, end);
+            position += end;
+            return rows;
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // 구간을 줄바꿈 경계의 세그먼트로 나누어 병렬 파싱 후 순서대로 합침
+    private static List<String[]> parseParallel(MappedByteBuffer buffer, int start, int end) {
+        int parallelism = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), (end - start) / MIN_SEGMENT_SIZE));
+        int[] bounds = new int[parallelism + 1];
+        bounds[0] = start;
+        bounds[parallelism] = end;
+        for (int i = 1; i < parallelism; i++) {
+            int candidate = start + (int) ((long) (end - start) * i / parallelism);
+            bounds[i] = Math.max(bounds[i - 1], nextLineStart(buffer, candidate, end));
+        }
+        if (parallelism == 1) {
+            return parseSegment(buffer, start, end);
+        }
+        List<List<String[]>> segments = IntStream.range(0, parallelism)
+                .parallel()
+                .mapToObj(i -> parseSegment(buffer.duplicate(), bounds[i], bounds[i + 1]))
+                .toList();
+        List<String[]> rows = new ArrayList<>();
+        segments.forEach(rows::addAll);
+        return rows;
+    }
+
+    // [start, end) 구간의 행을 파싱 (빈 행은 건너뜀)
+    private static List<String[]> parseSegment(MappedByteBuffer buffer, int start, int end) {
+        List<String[]> rows = new ArrayList<>();
+        List<String> fields = new ArrayList<>(8);
+        byte[] scratch = new byte[256];
+        int pos = start;
+        while (pos < end) {
+            fields.clear();
+            boolean blankLine = true;
+            while (true) {
+                // 필드 앞 공백 제거
+                while (pos < end && isBlank(buffer.get(pos))) {
+                    pos++;
+                }
+                int fieldStart = pos;
+                String value;
+                if (pos < end && buffer.get(pos) == '"') {
+                    // 따옴표 필드: 닫는 따옴표까지, "" 는 " 하나로 변환
+                    int len = 0;
+                    pos++;
+                    while (pos < end) {
+                        byte b = buffer.get(pos);
+                        if (b == '"') {
+                            if (pos + 1 < end && buffer.get(pos + 1) == '"') {
+                                scratch = ensure(scratch, len + 1);
+                                scratch[len++] = '"';
+                                pos += 2;
+                                continue;
+                            }
+                            pos++;
+                            break;
+                        }
+                        if (b == '\n') {
+                            break;
+                        }
+                        scratch = ensure(scratch, len + 1);
+                        scratch[len++] = b;
+                        pos++;
+                    }
+                    value = new String(scratch, 0, len, StandardCharsets.UTF_8);
+                    // 닫는 따옴표 뒤 구분자까지 건너뜀
+                    while (pos < end && buffer.get(pos) != ',' && buffer.get(pos) != '\n') {
+                        pos++;
+                    }
+                    blankLine = false;
+                } else {
+                    while (pos < end && buffer.get(pos) != ',' && buffer.get(pos) != '\n') {
+                        pos++;
+                    }
+                    // 필드 뒤 공백(\r 포함) 제거
+                    int fieldEnd = pos;
+                    while (fieldEnd > fieldStart && isBlank(buffer.get(fieldEnd - 1))) {
+                        fieldEnd--;
+                    }
+                    int len = fieldEnd - fieldStart;
+                    scratch = ensure(scratch, len);
+                    buffer.get(fieldStart, scratch, 0, len);
+                    value = new String(scratch, 0, len, StandardCharsets.UTF_8);
+                    if (len > 0) {
+                        blankLine = false;
+                    }
+                }
+                fields.add(value);
+                if (pos < end && buffer.get(pos) == ',') {
+                    pos++;
+                    blankLine = false;
+                    continue;
+                }
+                pos++; // 줄바꿈 (또는 구간 끝)
+                break;
+            }
+            if (!blankLine) {
+                rows.add(fields.toArray(new String[0]));
+            }
+        }
+        return rows;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static byte[] ensure(byte[] scratch, int size) {
+        return size <= scratch.length ? scratch : Arrays.copyOf(scratch, Math.max(size, scratch.length * 2));
+    }
+
+    // UTF-8 BOM(EF BB BF)이 있으면 건너뛴 위치
+    private static int skipBom(MappedByteBuffer buffer) {
+        if (buffer.limit() >= 3
+                && (buffer.get(0) & 0xFF) == 0xEF
+                && (buffer.get(1) & 0xFF) == 0xBB
+                && (buffer.get(2) & 0xFF) == 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    // from 이후 첫 줄바꿈 다음 위치 (없으면 end)
+    private static int nextLineStart(MappedByteBuffer buffer, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+
+    // [start, end) 구간의 마지막 줄바꿈 위치 (없으면 start - 1)
+    private static int lastNewline(MappedByteBuffer buffer, int start, int end) {
+        for (int i = end - 1; i >= start; i--) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return start - 1;
+    }
+}
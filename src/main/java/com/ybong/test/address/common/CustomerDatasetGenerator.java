@@ -0,0 +1,361 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.model.Customer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 부하/벤치마크용 고객 데이터 생성기
+ * - 실제 분포에 가깝게 성씨/이름/지역을 가중치로 뽑고, 전화번호는 010 + 8자리(일부는 하이픈 형식), 이메일은 고객ID를 포함하여 고유하게 만듭니다.
+ * - 각 행은 (seed, 행 번호)만으로 정해지므로 같은 설정이면 항상 같은 파일이 만들어지며, 블록 단위로 병렬 생성한 뒤 순서대로 기록합니다.
+ * - 중복 행(앞선 정상 행의 ID/전화번호/이메일 재사용)과 잘못된 행(필드 수, ID, 전화번호, 이메일, 이름 오류)을 비율대로 섞어
+ *   CsvFileReader의 건너뛰기 경로도 함께 실행되도록 합니다.
+ * - 출력은 CsvFileReader가 읽는 address.csv / sequence.csv 형식과 같습니다.
+ */
+public class CustomerDatasetGenerator {
+
+    /** 전화번호 뒤 8자리로 고유하게 만들 수 있는 최대 행 수 */
+    public static final long MAX_ROWS = 100_000_000L;
+
+    private static final String ADDRESS_HEADER = "고객ID,주소,연락처,이메일,이름";
+    private static final String SEQUENCE_HEADER = "데이터명,MAX_SEQUENCE";
+    private static final int BLOCK_ROWS = 64 * 1024;
+    private static final long PHONE_RANGE = 100_000_000L;
+    private static final double HYPHEN_RATE = 0.3; // 하이픈 형식(010-1234-5678) 전화번호 비율
+
+    // 성씨: 인구 비율 가중치 (단위: 0.1%)
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "전", "홍"};
+    private static final String[] SURNAMES_EN = {"kim", "lee", "park", "choi", "jung", "kang", "cho", "yoon", "jang", "lim", "han", "oh", "seo", "shin", "kwon", "hwang", "ahn", "song", "jeon", "hong"};
+    private static final double[] SURNAME_WEIGHTS = {216, 148, 85, 47, 43, 24, 21, 21, 20, 17, 15, 15, 15, 15, 14, 14, 14, 13, 11, 11};
+    // 이름: 순위가 낮을수록 드물게 (가중치 1/순위)
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "서윤", "시우", "지우", "하준", "하은", "주원", "지유",
+            "지호", "민서", "예준", "수아", "유준", "지안", "도현", "채원", "건우", "지민", "현우", "윤서", "우진", "다은", "선우", "예은", "서진", "수빈", "연우", "소율"};
+    private static final String[] GIVEN_NAMES_EN = {"minjun", "seoyeon", "doyun", "seoyun", "siwoo", "jiwoo", "hajun", "haeun", "juwon", "jiyu",
+            "jiho", "minseo", "yejun", "sua", "yujun", "jian", "dohyun", "chaewon", "gunwoo", "jimin", "hyunwoo", "yunseo", "woojin", "daeun", "sunwoo", "yeeun", "seojin", "subin", "yeonwoo", "soyul"};
+    // 지역: 인구 비율 가중치 (단위: 10만 명), 구/군은 균등
+    private static final String[] CITIES = {"서울특별시", "부산광역시", "인천광역시", "대구광역시", "대전광역시", "광주광역시", "울산광역시",
+            "경기도 수원시", "경기도 성남시", "경기도 고양시", "경기도 용인시", "제주특별자치도 제주시"};
+    private static final double[] CITY_WEIGHTS = {94, 33, 30, 24, 15, 14, 11, 12, 9, 11, 11, 5};
+    private static final String[][] DISTRICTS = {
+            {"강남구", "마포구", "서초구", "광진구", "송파구", "종로구", "중구", "용산구", "성동구", "노원구"},
+            {"해운대구", "수영구", "부산진구", "동래구", "남구"},
+            {"연수구", "남동구", "부평구", "서구"},
+            {"수성구", "달서구", "중구", "북구"},
+            {"유성구", "서구", "중구", "대덕구"},
+            {"북구", "서구", "광산구", "남구"},
+            {"남구", "중구", "울주군"},
+            {"영통구", "팔달구", "장안구", "권선구"},
+            {"분당구", "수정구", "중원구"},
+            {"일산동구", "일산서구", "덕양구"},
+            {"수지구", "기흥구", "처인구"},
+            {"연동", "노형동", "이도동"}
+    };
+    private static final String[] ROADS = {"중앙로", "대학로", "시장로", "공원로", "역삼로", "문화로", "해안로", "평화로", "산업로", "동서로", "남북로", "청사로"};
+    private static final String[] DOMAINS = {"gmail.com", "naver.com", "daum.net", "kakao.com", "hanmail.net"};
+    private static final double[] DOMAIN_WEIGHTS = {40, 35, 12, 8, 5};
+
+    private static final double[] SURNAME_CDF = cdf(SURNAME_WEIGHTS);
+    private static final double[] GIVEN_NAME_CDF = cdf(IntStream.rangeClosed(1, GIVEN_NAMES.length).mapToDouble(rank -> 1.0 / rank).toArray());
+    private static final double[] CITY_CDF = cdf(CITY_WEIGHTS);
+    private static final double[] DOMAIN_CDF = cdf(DOMAIN_WEIGHTS);
+
+    private final long seed;
+    private final double duplicateRate;
+    private final double invalidRate;
+    // 전화번호 뒤 8자리: (ID x 곱수 + 오프셋) mod 10^8, 곱수가 10^8과 서로소이므로 ID 1 ~ 10^8에서 중복 없음
+    private final long phoneMultiplier;
+    private final long phoneOffset;
+
+    /**
+     * 중복/오류 행이 없는 생성기를 만듭니다.
+     * @param seed 난수 시드
+     */
+    public CustomerDatasetGenerator(long seed) {
+        this(seed, 0, 0);
+    }
+
+    /**
+     * @param seed 난수 시드
+     * @param duplicateRate 중복 행 비율 (0 이상)
+     * @param invalidRate 잘못된 행 비율 (0 이상, duplicateRate와 합이 1 미만)
+     * @throws IllegalArgumentException 비율이 범위를 벗어났을 경우
+     */
+    public CustomerDatasetGenerator(long seed, double duplicateRate, double invalidRate) {
+        if (duplicateRate < 0 || invalidRate < 0 || duplicateRate + invalidRate >= 1) {
+            throw new IllegalArgumentException("Rates must be non-negative and sum to less than 1: duplicate="
+                    + duplicateRate + ", invalid=" + invalidRate);
+        }
+        this.seed = seed;
+        this.duplicateRate = duplicateRate;
+        this.invalidRate = invalidRate;
+        SplittableRandom random = new SplittableRandom(seed);
+        long multiplier;
+        do {
+            multiplier = random.nextLong(PHONE_RANGE / 10, PHONE_RANGE);
+        } while (multiplier % 2 == 0 || multiplier % 5 == 0);
+        this.phoneMultiplier = multiplier;
+        this.phoneOffset = random.nextLong(PHONE_RANGE);
+    }
+
+    /**
+     * address.csv와 sequence.csv를 생성합니다.
+     * @param dir 출력 디렉토리 (없으면 생성)
+     * @param rows 데이터 행 수
+     * @return 생성 결과 (행 종류별 건수)
+     * @throws IOException 파일 저장에 실패했을 경우
+     */
+    public Summary writeCsv(Path dir, long rows) throws IOException {
+        Files.createDirectories(dir);
+        Summary summary;
+        try (OutputStream out = Files.newOutputStream(dir.resolve("address.csv"))) {
+            summary = writeAddressCsv(out, rows);
+        }
+        Files.write(dir.resolve("sequence.csv"), List.of(SEQUENCE_HEADER, "address," + rows, "address_hist,0"), StandardCharsets.UTF_8);
+        return summary;
+    }
+
+    /**
+     * 헤더를 포함한 address.csv 내용을 기록합니다.
+     * - BLOCK_ROWS 행 단위 블록을 사용 가능한 프로세서 수만큼 병렬로 만들고, 파일에는 행 번호 순서대로 기록합니다.
+     * @param out 출력 스트림 (닫지 않음)
+     * @param rows 데이터 행 수
+     * @return 생성 결과 (행 종류별 건수)
+     * @throws IOException 기록에 실패했을 경우
+     * @throws IllegalArgumentException 행 수가 0 미만이거나 MAX_ROWS를 넘을 경우
+     */
+    public Summary writeAddressCsv(OutputStream out, long rows) throws IOException {
+        if (rows < 0 || rows > MAX_ROWS) {
+            throw new IllegalArgumentException("Rows must be between 0 and " + MAX_ROWS + ": " + rows);
+        }
+        out.write((ADDRESS_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+        long[] kinds = new long[RowKind.values().length];
+        int batchBlocks = Runtime.getRuntime().availableProcessors() * 2;
+        long blocks = (rows + BLOCK_ROWS - 1) / BLOCK_ROWS;
+        for (long first = 0; first < blocks; first += batchBlocks) {
+            long firstBlock = first;
+            List<Block> batch = IntStream.range(0, (int) Math.min(batchBlocks, blocks - first))
+                    .parallel()
+                    .mapToObj(i -> block(1 + (firstBlock + i) * BLOCK_ROWS, Math.min(rows + 1, 1 + (firstBlock + i + 1) * BLOCK_ROWS)))
+                    .toList();
+            for (Block block : batch) {
+                out.write(block.bytes());
+                for (int k = 0; k < kinds.length; k++) {
+                    kinds[k] += block.kinds()[k];
+                }
+            }
+        }
+        return new Summary(rows, kinds[RowKind.VALID.ordinal()], kinds[RowKind.DUPLICATE.ordinal()], kinds[RowKind.INVALID.ordinal()]);
+    }
+
+    /**
+     * 행 번호에 해당하는 CSV 행을 만듭니다. (줄바꿈 제외)
+     * @param row 행 번호 (1부터 시작, 정상 행의 고객ID와 같음)
+     * @return CSV 행
+     */
+    public String row(long row) {
+        StringBuilder sb = new StringBuilder(96);
+        appendRow(sb, row);
+        return sb.toString();
+    }
+
+    /**
+     * 고객ID에 해당하는 정상 고객 정보를 만듭니다. (중복/오류 비율과 관계없이 항상 유효한 값)
+     * @param id 고객ID (1 ~ MAX_ROWS)
+     * @return 고객 정보
+     */
+    public Customer customer(long id) {
+        SplittableRandom random = random(id);
+        random.nextDouble(); // 행 종류 선택에 쓰는 값 (appendRow와 같은 순서 유지)
+        String address = address(random);
+        int surname = pick(SURNAME_CDF, random);
+        int givenName = pick(GIVEN_NAME_CDF, random);
+        return Customer.builder()
+                .id(id)
+                .address(address)
+                .phoneNumber(phoneNumber(id, false))
+                .email(email(id, surname, givenName, random))
+                .name(SURNAMES[surname] + GIVEN_NAMES[givenName])
+                .build();
+    }
+
+    /**
+     * 고객ID에 해당하는 전화번호를 반환합니다. (하이픈 없는 11자리)
+     * @param id 고객ID
+     * @return 전화번호
+     */
+    public String phoneNumber(long id) {
+        return phoneNumber(id, false);
+    }
+
+    // 블록 하나 생성 (병렬 실행, 공유 상태 없음)
+    private Block block(long from, long to) {
+        StringBuilder sb = new StringBuilder((int) (to - from) * 96);
+        long[] kinds = new long[RowKind.values().length];
+        for (long row = from; row < to; row++) {
+            kinds[appendRow(sb, row).ordinal()]++;
+            sb.append('\n');
+        }
+        return new Block(sb.toString().getBytes(StandardCharsets.UTF_8), kinds);
+    }
+
+    // 행 종류를 정한 뒤 필드를 채움 (중복 행은 앞선 정상 행의 값을 재사용)
+    private RowKind appendRow(StringBuilder sb, long row) {
+        SplittableRandom random = random(row);
+        RowKind kind = kind(row, random.nextDouble());
+        String address = address(random);
+        int surname = pick(SURNAME_CDF, random);
+        int givenName = pick(GIVEN_NAME_CDF, random);
+        String email = email(row, surname, givenName, random);
+        String name = SURNAMES[surname] + GIVEN_NAMES[givenName];
+        long id = row;
+        String phone = phoneNumber(row, random.nextDouble() < HYPHEN_RATE);
+        if (kind == RowKind.DUPLICATE) {
+            long earlier = earlierValidRow(row, random);
+            switch (random.nextInt(3)) {
+                case 0 -> id = earlier;
+                case 1 -> phone = phoneNumber(earlier, false);
+                default -> email = customer(earlier).getEmail().toUpperCase(); // 대소문자만 다른 이메일도 중복
+            }
+        } else if (kind == RowKind.INVALID) {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    sb.append(row).append(',').append(address).append(',').append(phone).append(',').append(email); // 필드 수 부족
+                    return kind;
+                }
+                case 1 -> {
+                    sb.append("ID").append(row).append(',').append(address).append(',').append(phone).append(',').append(email).append(',').append(name);
+                    return kind;
+                }
+                case 2 -> phone = "011" + phone.substring(3);
+                case 3 -> email = email.replace('@', '_');
+                default -> name = " ";
+            }
+        }
+        sb.append(id).append(',').append(address).append(',').append(phone).append(',').append(email).append(',').append(name);
+        return kind;
+    }
+
+    // 1 ~ row-1 중 정상 행을 무작위로 선택 (정상 행이 없으면 첫 행)
+    private long earlierValidRow(long row, SplittableRandom random) {
+        for (int attempt = 0; attempt < 64 && row > 1; attempt++) {
+            long candidate = random.nextLong(1, row);
+            if (kind(candidate, random(candidate).nextDouble()) == RowKind.VALID) {
+                return candidate;
+            }
+        }
+        return 1;
+    }
+
+    private RowKind kind(long row, double draw) {
+        if (draw < invalidRate) {
+            return RowKind.INVALID;
+        }
+        return row > 1 && draw < invalidRate + duplicateRate ? RowKind.DUPLICATE : RowKind.VALID;
+    }
+
+    private SplittableRandom random(long row) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + row);
+    }
+
+    // 010 + 뒤 8자리 (String.format 없이 자릿수를 직접 채움)
+    private String phoneNumber(long id, boolean hyphen) {
+        long digits = ((id % PHONE_RANGE) * phoneMultiplier + phoneOffset) % PHONE_RANGE;
+        char[] chars = hyphen ? "010-0000-0000".toCharArray() : "01000000000".toCharArray();
+        for (int i = chars.length - 1; digits > 0; i--) {
+            if (chars[i] == '-') {
+                continue;
+            }
+            chars[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        return new String(chars);
+    }
+
+    private static String address(SplittableRandom random) {
+        int city = pick(CITY_CDF, random);
+        String[] districts = DISTRICTS[city];
+        return CITIES[city] + " " + districts[random.nextInt(districts.length)] + " "
+                + ROADS[random.nextInt(ROADS.length)] + " " + (1 + random.nextInt(300));
+    }
+
+    // 이름의 로마자 표기 + 고객ID (고객ID가 고유하므로 이메일도 고유)
+    private static String email(long id, int surname, int givenName, SplittableRandom random) {
+        return GIVEN_NAMES_EN[givenName] + "." + SURNAMES_EN[surname] + id + "@" + DOMAINS[pick(DOMAIN_CDF, random)];
+    }
+
+    private static int pick(double[] cdf, SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index + 1, cdf.length - 1);
+    }
+
+    // 가중치 -> 누적 분포 (마지막 값 1)
+    private static double[] cdf(double[] weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum / total;
+        }
+        return cdf;
+    }
+
+    /**
+     * 명령행 실행: --out=디렉토리 --rows=행수 --seed=시드 --duplicate-rate=비율 --invalid-rate=비율
+     * @param args 옵션 (미입력 시 build/dataset, 1,000,000행, 시드 1, 중복/오류 0)
+     * @throws IOException 파일 저장에 실패했을 경우
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path dir = Paths.get(options.getOrDefault("out", "build/dataset"));
+        long rows = Long.parseLong(options.getOrDefault("rows", "1000000"));
+        CustomerDatasetGenerator generator = new CustomerDatasetGenerator(
+                Long.parseLong(options.getOrDefault("seed", "1")),
+                Double.parseDouble(options.getOrDefault("duplicate-rate", "0")),
+                Double.parseDouble(options.getOrDefault("invalid-rate", "0")));
+
+        long start = System.nanoTime();
+        Summary summary = generator.writeCsv(dir, rows);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%s: 전체 %d행 (정상 %d, 중복 %d, 오류 %d), %d ms%n",
+                dir.toAbsolutePath(), summary.rows(), summary.valid(), summary.duplicate(), summary.invalid(), elapsedMs);
+    }
+
+    /**
+     * 행 종류 (정상, 중복, 오류)
+     */
+    public enum RowKind {
+        VALID, DUPLICATE, INVALID
+    }
+
+    /**
+     * 생성 결과
+     * @param rows 전체 데이터 행 수
+     * @param valid 정상 행 수
+     * @param duplicate 중복 행 수 (적재 시 건너뜀)
+     * @param invalid 잘못된 행 수 (적재 시 건너뜀)
+     */
+    public record Summary(long rows, long valid, long duplicate, long invalid) {
+    }
+
+    private record Block(byte[] bytes, long[] kinds) {
+    }
+}
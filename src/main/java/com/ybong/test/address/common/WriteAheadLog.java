@@ -0,0 +1,486 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.dao.AddressBookChangeListener;
+import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.util.MessageUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 주소록 변경 로그 (Write-Ahead Log)
+ * - AddressBookDao의 저장/삭제를 한 줄씩 추가 기록하여, 비정상 종료 시에도 마지막 CSV 저장 이후의 변경을 복구
+ * - 기록 형식: 유형(S/D) \t 고객ID \t 주소 \t 연락처 \t 이메일 \t 이름 \t CRC32(16진수), 필드의 \, 탭, 줄바꿈은 \ 로 이스케이프
+ * - 그룹 커밋: 요청 스레드는 메모리 버퍼에만 추가하고, 기록 스레드가 모아서 쓰고 한 번에 fsync(force)
+ * - sync 설정(기본값) 시 요청 스레드는 자신의 변경이 fsync될 때까지 afterCommit에서 대기하므로, 응답한 변경은 유실되지 않음
+ * - 기록에 한 번 실패하면 이후의 추가(append)와 afterCommit은 모두 실패하여, 기록되지 않은 변경을 성공으로 응답하지 않음
+ * - 재기동 시 replay로 기록 순서대로 재적용하며, 끝이 잘린(기록 중 종료된) 행부터는 버림
+ * - 세그먼트(address-000001.wal ...) 단위로 기록하며, 스냅샷 시 rotate로 새 세그먼트로 전환한 뒤 이전 세그먼트를 삭제
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class WriteAheadLog implements AddressBookChangeListener, Closeable {
+
+    private static final char TYPE_SAVE = 'S';
+    private static final char TYPE_DELETE = 'D';
+    private static final char SEPARATOR = '\t';
+    private static final String SEGMENT_PREFIX = "address-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final MessageUtil messageUtil;
+
+    @Getter
+    @Setter
+    @Value("${addressbook.wal.enabled:true}")
+    private boolean enabled = true;
+
+    @Setter
+    @Value("${addressbook.wal.dir:src/main/resources/csv/wal}")
+    private String dir = "src/main/resources/csv/wal";
+
+    /** 그룹 커밋 대기 시간(ms). 이 시간 동안 쌓인 변경을 한 번에 기록합니다. */
+    @Setter
+    @Value("${addressbook.wal.flush-interval-ms:10}")
+    private long flushIntervalMs = 10;
+
+    /** true이면 변경 요청이 fsync 완료까지 대기합니다. false이면 응답한 변경 중 최대 flushIntervalMs 만큼이 비정상 종료 시 유실될 수 있습니다. */
+    @Setter
+    @Value("${addressbook.wal.sync:true}")
+    private boolean sync = true;
+
+    // 기록 대기 버퍼와 추가 순번 (lock으로 보호)
+    private final Object lock = new Object();
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private long appendedSeq;
+    private long segmentStartSeq;   // 현재 세그먼트 시작 시점의 추가 순번
+
+    // 파일 쓰기/세그먼트 전환 순서 보장 (ioLock -> lock 순으로만 잠금)
+    private final Object ioLock = new Object();
+    private long segment;           // 현재 세그먼트 번호 (변경은 ioLock과 lock을 모두 잡고)
+
+    // fsync까지 완료된 순번 (durableLock으로 대기/통지)
+    private final Object durableLock = new Object();
+    private volatile long durableSeq;
+    // 스레드별 [마지막 추가 순번, 추가한 세그먼트, afterCommit 전 미완료 건수]
+    private final ThreadLocal<long[]> pending = ThreadLocal.withInitial(() -> new long[3]);
+    // 세그먼트 -> 주소록 반영(afterCommit)이 끝나지 않은 변경 건수 (자체 모니터로 대기/통지)
+    private final Map<Long, Long> inFlight = new HashMap<>();
+
+    private FileChannel channel;
+    private Thread writer;
+    private volatile boolean running;
+    private volatile IOException failure;
+
+    /**
+     * 기록된 변경을 세그먼트 순서대로 재적용합니다. open 전에 호출해야 합니다.
+     * @param target 재적용 대상 (저장은 onSave, 삭제는 ID만 채운 고객으로 onDelete 호출)
+     * @return 재적용한 변경 건수
+     * @throws IOException 파일을 읽을 수 없을 경우
+     */
+    public long replay(AddressBookChangeListener target) throws IOException {
+        long[] count = new long[1];
+        for (Path file : segments()) {
+            scan(file, target, count);
+        }
+        return count[0];
+    }
+
+    /**
+     * 마지막 세그먼트를 열고 기록 스레드를 시작합니다.
+     * - 마지막 정상 기록 뒤의 잘린 데이터는 잘라낸 뒤 이어서 기록합니다.
+     * @throws IOException 파일을 열 수 없을 경우
+     */
+    public void open() throws IOException {
+        Files.createDirectories(Paths.get(dir));
+        List<Path> files = segments();
+        segment = files.isEmpty() ? 1 : segmentNumber(files.get(files.size() - 1));
+        Path file = segmentPath(segment);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        channel.truncate(scan(file, null, new long[1]));
+        channel.position(channel.size());
+        running = true;
+        writer = new Thread(this::writeLoop, "address-wal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 지금까지의 기록을 fsync하고 새 세그먼트로 전환합니다. (스냅샷 직전에 호출)
+     * - 전환 이후의 변경은 새 세그먼트에 기록되므로, 전환 후 만든 스냅샷은 이전 세그먼트를 모두 포함합니다.
+     * - 스냅샷에 전환 이후 변경이 일부 섞여도 재적용은 고객 단위 전체 덮어쓰기/삭제라 결과가 같습니다.
+     * @return 새 세그먼트 번호, 열려 있지 않거나 마지막 전환 이후 변경이 없으면 -1
+     * @throws IOException 기록 또는 새 세그먼트 생성에 실패했을 경우
+     */
+    public long rotate() throws IOException {
+        long previous;
+        synchronized (ioLock) {
+            byte[] batch;
+            long seq;
+            synchronized (lock) {
+                if (!running || appendedSeq == segmentStartSeq) {
+                    return -1;
+                }
+                batch = buffer.toByteArray();
+                buffer.reset();
+                seq = appendedSeq;
+                segmentStartSeq = seq;
+                previous = segment++;
+            }
+            flush(batch, seq);
+            if (failure != null) {
+                throw failure;
+            }
+            channel.close();
+            channel = FileChannel.open(segmentPath(previous + 1),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        // 이전 세그먼트에 기록된 변경이 모두 주소록에 반영될 때까지 대기 (스냅샷 누락 방지)
+        synchronized (inFlight) {
+            while (inFlight.containsKey(previous)) {
+                try {
+                    inFlight.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return previous + 1;
+    }
+
+    /**
+     * 주어진 번호보다 앞선 세그먼트를 삭제합니다. (스냅샷 저장 완료 후 호출)
+     * @param firstKept 남길 첫 세그먼트 번호
+     * @throws IOException 파일 목록을 읽을 수 없을 경우
+     */
+    public void deleteSegmentsBefore(long firstKept) throws IOException {
+        for (Path file : segments()) {
+            if (segmentNumber(file) < firstKept) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Override
+    public void onSave(Customer customer) {
+        append(encode(TYPE_SAVE, customer.getIdStr(),
+                customer.getAddress(), customer.getPhoneNumber(), customer.getEmail(), customer.getName()));
+    }
+
+    @Override
+    public void onDelete(Customer customer) {
+        append(encode(TYPE_DELETE, customer.getIdStr()));
+    }
+
+    /**
+     * 현재 스레드가 추가한 변경이 주소록에 반영(또는 반영 실패)되었음을 기록하고, sync 설정 시 fsync될 때까지 대기합니다.
+     * - DAO는 변경이 예외로 끝나도 반드시 호출하며, 세그먼트별 미완료 건수를 먼저 정리하므로 rotate가 멈추지 않습니다.
+     * @throws IllegalStateException 변경 로그 기록에 실패했을 경우 (sync 설정과 무관하게, 실패 이후 계속)
+     */
+    @Override
+    public void afterCommit() {
+        long[] mine = pending.get();
+        if (mine[2] > 0) {
+            synchronized (inFlight) {
+                if (inFlight.merge(mine[1], -mine[2], Long::sum) <= 0) {
+                    inFlight.remove(mine[1]);
+                    inFlight.notifyAll();
+                }
+            }
+            mine[2] = 0;
+        }
+        if (failure != null) {
+            throw new IllegalStateException(messageUtil.getMessage("log.wal.write.fail"), failure);
+        }
+        if (!sync) {
+            return;
+        }
+        long target = mine[0];
+        if (durableSeq >= target) {
+            return;
+        }
+        synchronized (lock) {
+            lock.notifyAll(); // 대기 시간 없이 바로 기록하도록 깨움
+        }
+        synchronized (durableLock) {
+            while (durableSeq < target && failure == null && running) {
+                try {
+                    durableLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        if (failure != null) {
+            throw new IllegalStateException(messageUtil.getMessage("log.wal.write.fail"), failure);
+        }
+    }
+
+    /**
+     * 남은 변경을 기록/fsync한 뒤 기록 스레드를 종료합니다.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+            synchronized (ioLock) {
+                channel.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("{}: {}", messageUtil.getMessage("log.wal.write.fail"), dir, e);
+        }
+    }
+
+    // 버퍼에 기록을 추가하고 현재 스레드의 마지막 순번을 기억 (기록 실패 이후에는 거부하여 변경 자체를 막음)
+    private void append(byte[] record) {
+        if (failure != null) {
+            throw new IllegalStateException(messageUtil.getMessage("log.wal.write.fail"), failure);
+        }
+        synchronized (lock) {
+            if (!running) {
+                log.warn("{}: {}", messageUtil.getMessage("log.wal.closed"), new String(record, StandardCharsets.UTF_8).trim());
+                return;
+            }
+            buffer.write(record, 0, record.length);
+            long[] mine = pending.get();
+            mine[0] = ++appendedSeq;
+            mine[1] = segment;
+            mine[2]++;
+            synchronized (inFlight) {
+                inFlight.merge(segment, 1L, Long::sum);
+            }
+        }
+    }
+
+    // 그룹 커밋: flushIntervalMs 동안 모인 기록을 한 번에 쓰고 fsync
+    private void writeLoop() {
+        while (true) {
+            boolean stop;
+            synchronized (lock) {
+                if (running && buffer.size() == 0) {
+                    try {
+                        lock.wait(flushIntervalMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                stop = !running;
+            }
+            // 버퍼 비우기와 쓰기를 ioLock 안에서 함께 처리하여 세그먼트 전환과 기록 순서가 섞이지 않도록 함
+            synchronized (ioLock) {
+                byte[] batch;
+                long seq;
+                synchronized (lock) {
+                    batch = buffer.toByteArray();
+                    buffer.reset();
+                    seq = appendedSeq;
+                }
+                flush(batch, seq);
+            }
+            if (stop) {
+                return;
+            }
+        }
+    }
+
+    // 현재 세그먼트에 쓰고 fsync한 뒤 완료 순번을 통지 (ioLock 안에서 호출)
+    private void flush(byte[] batch, long seq) {
+        if (batch.length > 0 && failure == null) {
+            try {
+                ByteBuffer data = ByteBuffer.wrap(batch);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                failure = e;
+                log.error("{}: {}", messageUtil.getMessage("log.wal.write.fail"), dir, e);
+            }
+        }
+        synchronized (durableLock) {
+            if (failure == null) {
+                durableSeq = seq;
+            }
+            durableLock.notifyAll();
+        }
+    }
+
+    // 세그먼트 파일 목록 (번호 오름차순)
+    private List<Path> segments() throws IOException {
+        Path directory = Paths.get(dir);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> segmentNumber(file) > 0)
+                    .sorted(Comparator.comparingLong(WriteAheadLog::segmentNumber))
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return Paths.get(dir, String.format("%s%06d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    // 세그먼트 파일명의 번호 (세그먼트 파일이 아니면 -1)
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 기록을 처음부터 읽어 대상에 적용하고(target이 null이면 검사만), 마지막 정상 기록까지의 바이트 길이를 반환
+    private long scan(Path file, AddressBookChangeListener target, long[] count) throws IOException {
+        long length = 0;
+        long position = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                String record = line.toString(StandardCharsets.UTF_8);
+                line.reset();
+                if (!apply(record, target)) {
+                    log.warn("{}: {}", messageUtil.getMessage("log.wal.corrupt"), record);
+                    return length;
+                }
+                count[0]++;
+                length = position;
+            }
+        }
+        if (position > length) {
+            log.warn("{}: {} bytes", messageUtil.getMessage("log.wal.corrupt"), position - length);
+        }
+        return length;
+    }
+
+    // 기록 한 행을 해석하여 대상에 적용 (형식/CRC가 맞지 않으면 false, target이 null이면 검사만)
+    private boolean apply(String record, AddressBookChangeListener target) {
+        int crcAt = record.lastIndexOf(SEPARATOR);
+        if (crcAt < 0 || !checksum(record.substring(0, crcAt)).equals(record.substring(crcAt + 1))) {
+            return false;
+        }
+        String[] fields = record.substring(0, crcAt).split(String.valueOf(SEPARATOR), -1);
+        try {
+            if (fields[0].equals(String.valueOf(TYPE_SAVE)) && fields.length == 6) {
+                Customer customer = Customer.builder()
+                        .id(Long.parseLong(fields[1]))
+                        .address(unescape(fields[2]))
+                        .phoneNumber(unescape(fields[3]))
+                        .email(unescape(fields[4]))
+                        .name(unescape(fields[5]))
+                        .build();
+                if (target != null) {
+                    target.onSave(customer);
+                }
+                return true;
+            }
+            if (fields[0].equals(String.valueOf(TYPE_DELETE)) && fields.length == 2) {
+                Customer customer = Customer.builder().id(Long.parseLong(fields[1])).build();
+                if (target != null) {
+                    target.onDelete(customer);
+                }
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return false;
+    }
+
+    // 유형과 필드를 탭으로 이어 붙이고 CRC를 덧붙인 한 행
+    private static byte[] encode(char type, String... fields) {
+        StringBuilder sb = new StringBuilder(64).append(type);
+        for (String field : fields) {
+            sb.append(SEPARATOR);
+            escape(sb, field);
+        }
+        String body = sb.toString();
+        return (body + SEPARATOR + checksum(body) + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String checksum(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static void escape(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(switch (next) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> next;
+                });
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.ybong.test.address.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 운영 지표 설정
+ * - @Timed를 붙인 메서드의 실행 시간을 타이머로 기록합니다. (class, method, exception 태그)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
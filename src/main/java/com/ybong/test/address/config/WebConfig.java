@@ -1,16 +1,18 @@
 package com.ybong.test.address.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import com.ybong.test.address.common.ApiLoggingInterceptor;
+import com.ybong.test.address.common.AccessLogFilter;
 
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
+public class WebConfig {
 
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new ApiLoggingInterceptor())
-                .addPathPatterns("/api/**"); // 원하는 경로 지정
+    // 스프링 빈으로 만든 접근 로그 필터를 API 경로에만 등록
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilterRegistration(AccessLogFilter accessLogFilter) {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(accessLogFilter);
+        registration.addUrlPatterns("/api/*"); // 원하는 경로 지정
+        return registration;
     }
 }
@@ -1,19 +1,34 @@
 package com.ybong.test.address.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.ybong.test.address.dto.*;
 import com.ybong.test.address.mapper.CustomerMapper;
+import com.ybong.test.address.model.Customer;
 import com.ybong.test.address.service.AddressBookService;
+import com.ybong.test.address.util.MessageUtil;
 import com.ybong.test.address.util.ValidationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -21,6 +36,7 @@ import java.util.List;
  * - 고객 등록, 조회, 수정, 삭제 기능 제공
  * - Swagger 문서화 지원
  */
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/customers")
@@ -29,6 +45,10 @@ public class AddressBookController {
     private final AddressBookService addressBookService;
     private final ValidationUtil validationUtil;
     private final CustomerMapper customerMapper;
+    private final ObjectMapper objectMapper;
+    private final MessageUtil messageUtil;
+
+    private static final int STREAM_FLUSH_INTERVAL = 1000;
 
     /**
      * 새로운 고객 정보를 등록합니다.
@@ -52,11 +72,32 @@ public class AddressBookController {
                 .body(customerMapper.toCustomerResponse(addressBookService.addCustomer(reqDto)));
     }
 
+    /**
+     * 여러 고객 정보를 한 번에 등록합니다.
+     * - 항목별로 검증/중복 확인하여 가능한 항목만 등록하며, 결과는 요청 순서대로 항목별로 반환합니다.
+     * @param reqDtos 고객 정보 요청 DTO 목록
+     * @return 항목별 등록 결과
+     */
+    @Operation(summary = "고객 대량 등록"
+            , description = "여러 고객 정보를 한 번에 등록하고 항목별 결과(CREATED/INVALID/CONFLICT)를 반환하는 API")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 확인)"),
+            @ApiResponse(responseCode = "400", description = "요청 건수 오류")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<CustomerBulkResponse> addCustomers(@RequestBody List<CustomerRequest> reqDtos) {
+        return ResponseEntity.ok(customerMapper.toCustomerBulkResponse(addressBookService.addCustomers(reqDtos)));
+    }
+
     /**
      * 고객 목록을 검색 조건에 따라 조회합니다.
+     * - page/size 또는 after(커서) 입력 시 해당 페이지만 조회합니다.
+     * - stream=true 또는 Accept 헤더에서 가장 선호하는(q 값이 가장 높은) 형식이 application/x-ndjson이면 응답 객체를 만들지 않고 NDJSON으로 바로 전송합니다.
      * @param reqDto 검색 조건 요청 DTO
      * @param bindingResult 유효성 검증 결과
-     * @return 검색된 고객 목록
+     * @param accept Accept 헤더
+     * @param response 스트리밍 응답 전송용
+     * @return 검색된 고객 목록 (스트리밍 시 null, 응답은 직접 전송)
      */
     @Operation(
             summary = "고객 목록 조회",
@@ -69,18 +110,93 @@ public class AddressBookController {
     @GetMapping
     public ResponseEntity<CustomerSearchResponse> searchCustomers(
             @Validated @ModelAttribute CustomerSearchRequest reqDto,
-            BindingResult bindingResult
-    ) {
+            BindingResult bindingResult,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse response
+    ) throws IOException {
         validationUtil.validateBindingResultOrThrow(bindingResult); //요청값 유효 검증
+        if (Boolean.TRUE.equals(reqDto.getStream()) || prefersNdjson(accept)) {
+            streamCustomers(reqDto, response);
+            return null;
+        }
         return ResponseEntity.ok(customerMapper.toCustomerSearchResponse(
-                addressBookService.searchCustomers(
+                addressBookService.searchCustomerPage(
                         reqDto.getFilter(),
                         reqDto.getKeyword(),
                         reqDto.getSortBy(),
-                        reqDto.getSortDir())
+                        reqDto.getSortDir(),
+                        reqDto.getPage(),
+                        reqDto.getSize(),
+                        reqDto.getAfter())
         ));
     }
 
+    // Accept 헤더에서 q 값이 가장 높은 형식이 NDJSON인지 확인 (q 값이 같으면 먼저 나온 형식, 형식이 잘못된 헤더는 JSON으로 응답)
+    private static boolean prefersNdjson(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() <= 0) {
+                break; // q=0은 받지 않는 형식
+            }
+            if (MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(mediaType)) {
+                return true;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // 검색 결과를 한 줄에 한 고객씩(NDJSON) 생성되는 즉시 chunked 응답으로 전송
+    // - 첫 줄을 보내기 전의 예외는 그대로 전파하여 오류 응답으로 처리하고, 전송을 시작한 뒤의 예외는 상태 코드를 바꿀 수 없으므로 기록 후 스트림을 끝냄
+    private void streamCustomers(CustomerSearchRequest reqDto, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ObjectWriter writer = objectMapper.writerFor(Customer.class);
+        OutputStream out = response.getOutputStream();
+        int[] written = {0};
+        try {
+            try {
+                addressBookService.streamCustomers(
+                        reqDto.getFilter(),
+                        reqDto.getKeyword(),
+                        reqDto.getSortBy(),
+                        reqDto.getSortDir(),
+                        customer -> {
+                            try {
+                                out.write(writer.writeValueAsBytes(customer));
+                                out.write('\n');
+                                // 첫 건은 바로 내보내고 이후에는 일정 건수마다 flush
+                                if (written[0]++ % STREAM_FLUSH_INTERVAL == 0) {
+                                    out.flush();
+                                }
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        } catch (IOException | RuntimeException e) {
+            if (!response.isCommitted()) {
+                throw e;
+            }
+            log.warn("{} (lines={})", messageUtil.getMessage("log.stream.abort"), written[0], e);
+        }
+    }
+
     /**
      * 기존 고객 정보를 수정합니다.
      * @param id 수정할 고객 ID
@@ -110,6 +226,38 @@ public class AddressBookController {
         ));
     }
 
+    /**
+     * 고객 정보의 일부 필드만 수정합니다.
+     * - 입력한 필드만 수정하며, diff=true이면 수정 전/후 고객 정보 대신 바뀐 필드만 반환합니다.
+     * @param id 수정할 고객 ID
+     * @param dto 수정할 필드
+     * @param bindingResult 유효성 검증 결과
+     * @param diff 바뀐 필드만 반환할지 여부
+     * @return 수정 결과
+     */
+    @Operation(
+            summary = "고객 정보 부분 수정",
+            description = "입력한 필드만 수정하는 API (diff=true: 바뀐 필드의 수정 전/후 값만 반환)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "수정 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 오류"),
+            @ApiResponse(responseCode = "404", description = "고객 없음"),
+            @ApiResponse(responseCode = "409", description = "중복 오류")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<CustomerPatchResponse> patchCustomer(
+            @PathVariable Long id,
+            @RequestBody @Validated CustomerPatchRequest dto,
+            BindingResult bindingResult,
+            @RequestParam(defaultValue = "false") boolean diff
+    ) {
+        validationUtil.validateBindingResultOrThrow(bindingResult); //요청값 유효 검증
+        return ResponseEntity.ok(customerMapper.toCustomerPatchResponse(
+                addressBookService.patchCustomer(id, dto), diff
+        ));
+    }
+
     /**
      * 여러 고객 정보를 삭제합니다.
      * @param ids 삭제할 고객 ID 목록
@@ -130,5 +278,25 @@ public class AddressBookController {
                 addressBookService.deleteCustomers(ids)
         ));
     }
-}
 
+    /**
+     * 여러 고객 정보를 한 번에 삭제합니다.
+     * - 모든 ID를 먼저 검증한 뒤 삭제 가능한 고객만 삭제하며, 없는 ID가 있어도 나머지는 삭제합니다.
+     * @param ids 삭제할 고객 ID 목록
+     * @return 고객ID별 삭제 결과
+     */
+    @Operation(
+            summary = "고객 정보 일괄 삭제",
+            description = "여러 고객 정보를 한 번에 삭제하고 고객ID별 결과(DELETED/NOT_FOUND/DUPLICATE/INVALID)를 반환하는 API"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (고객ID별 결과 확인)"),
+            @ApiResponse(responseCode = "400", description = "요청 건수 오류")
+    })
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<CustomerBulkDeleteResponse> deleteCustomersInBatch(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(customerMapper.toCustomerBulkDeleteResponse(
+                addressBookService.deleteCustomersInBatch(ids)
+        ));
+    }
+}
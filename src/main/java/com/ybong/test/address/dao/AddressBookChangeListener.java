@@ -0,0 +1,31 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+
+/**
+ * 주소록 변경 리스너
+ * - AddressBookDao의 저장/삭제를 고객 ID 단위 잠금 안에서 통지받으므로, 같은 고객에 대한 통지 순서는 반영 순서와 같음
+ * - 통지 메서드는 잠금을 잡은 채 호출되므로 I/O 대기 없이 빠르게 반환해야 하며, 대기가 필요하면 afterCommit에서 처리
+ * - 통지 메서드에서 예외가 발생하면 DAO는 그 변경을 반영하지 않고 예외를 전파함 (색인 변경 전에 통지)
+ */
+public interface AddressBookChangeListener {
+
+    /**
+     * 고객 정보가 등록/수정되었을 때 호출됩니다.
+     * @param customer 저장된 고객 정보
+     */
+    void onSave(Customer customer);
+
+    /**
+     * 고객 정보가 삭제되었을 때 호출됩니다.
+     * @param customer 삭제된 고객 정보
+     */
+    void onDelete(Customer customer);
+
+    /**
+     * 변경이 주소록에 반영된 뒤 잠금 밖에서 호출됩니다. (변경을 요청한 스레드에서 실행)
+     * - 변경이 예외로 끝난 경우에도 호출되므로, 통지 시 잡아 둔 자원은 여기서 정리합니다.
+     */
+    default void afterCommit() {
+    }
+}
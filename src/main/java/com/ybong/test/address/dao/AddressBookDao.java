@@ -1,39 +1,210 @@
 package com.ybong.test.address.dao;
 
+import com.ybong.test.address.exception.BizValidationException;
+import com.ybong.test.address.exception.ConflictException;
+import com.ybong.test.address.exception.NoChangeException;
+import com.ybong.test.address.exception.NotFoundException;
 import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerUpdate;
 import com.ybong.test.address.util.MessageUtil;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 고객 주소록 데이터 접근 객체
  * - 메모리 내 고객 정보 데이터 관리
+ * - 고객 정보는 다중 버전 저장소 하나에 보관하며, 일관된 목록이 필요한 조회는 스냅샷을 열어 쓰기를 막지 않고 읽습니다.
  */
 @Slf4j
 @RequiredArgsConstructor
-@Setter
-@Getter
 @Repository
 public class AddressBookDao {
-    private final Map<String, Customer> addressBook = new ConcurrentHashMap<>();
-    private final Map<String, Customer> addressBook_readOnly = new ConcurrentHashMap<>();
+    private VersionedCustomerStore store = new VersionedCustomerStore();        // 고객ID -> 고객 정보 (버전 관리)
+    private final Map<String, Long> phoneIndex = new ConcurrentHashMap<>();     // 정규화 전화번호 -> 고객ID
+    private final Map<String, Long> emailIndex = new ConcurrentHashMap<>();     // 소문자 이메일 -> 고객ID
+    private final CustomerSearchIndex searchIndex = new CustomerSearchIndex();  // 키워드 검색용 n-gram 색인
+    private final CustomerSortIndex sortIndex = new CustomerSortIndex();        // 정렬 기준별 정렬 색인
     private final MessageUtil messageUtil;
-    private List<String> addressBook_init;
+    private final AtomicLong modCount = new AtomicLong();                       // 저장/삭제 시 증가하는 변경 번호
+    private volatile long savedModCount;                                        // 마지막으로 파일에 저장된 시점의 변경 번호
+    @Setter
+    private volatile AddressBookChangeListener changeListener;                 // 변경 통지 대상 (변경 로그 등, 없으면 null)
 
     /**
-     * 등록/수정 시 고객 정보를 저장합니다.
-     * @param customer 저장할 고객 정보
-     * @return 저장된 고객 정보
+     * 기록된 고객 정보를 그대로 반영합니다. (변경 로그 재적용용)
+     * - 같은 ID의 기존 정보가 있으면 보조 인덱스(전화번호/이메일)도 함께 교체합니다.
+     * - 고유키 중복을 확인하지 않고 인덱스를 덮어쓰므로, 기록 시점에 이미 중복 확인을 마친 변경에만 사용해야 합니다. (요청 처리는 insert/update/patch 사용)
+     * @param customer 반영할 고객 정보
+     * @return 반영된 고객 정보
      */
-    public Customer save(Customer customer) {
-        addressBook.put(customer.getIdStr(), customer);
-        addressBook_readOnly.put(customer.getIdStr(), customer);
+    public Customer restore(Customer customer) {
+        Customer stored = store.canonicalize(customer);
+        // ID 단위 잠금(compute) 안에서 인덱스를 갱신하여 같은 고객에 대한 동시 수정 시에도 인덱스가 어긋나지 않도록 함
+        try {
+            store.compute(stored.getId(), previous -> {
+                notifySave(stored);
+                removeIndex(previous);
+                addIndex(stored);
+                searchIndex.update(previous, stored);
+                sortIndex.update(previous, stored);
+                return stored;
+            });
+            modCount.incrementAndGet(); // 새 버전 공개 후 증가 (스냅샷이 읽은 변경 번호의 변경은 모두 보이도록)
+        } finally {
+            afterCommit();
+        }
+        log.debug(messageUtil.getMessage("log.customer.save.success"));
+        return customer;
+    }
+
+    /**
+     * 고객 정보 전체를 수정합니다. (PUT)
+     * - ID 단위 잠금 안에서 현재 값을 읽어 비교하고, 바뀐 고유키(전화번호/이메일)만 putIfAbsent로 선점합니다.
+     * - 선점이 실패하면 앞서 선점한 키를 되돌리므로, 동시에 등록/수정된 다른 고객의 고유키를 덮어쓰지 않습니다.
+     * @param customer 수정할 고객 정보 (ID 포함)
+     * @return 수정 전/후 고객 정보
+     * @throws NotFoundException 고객 정보가 존재하지 않을 경우
+     * @throws NoChangeException 변경된 정보가 없을 경우
+     * @throws ConflictException 바뀐 전화번호 또는 이메일이 다른 고객에게 등록되어 있을 경우
+     */
+    public CustomerUpdate update(Customer customer) {
+        Customer next = store.canonicalize(customer);
+        Long id = next.getId();
+        Customer before;
+        try {
+            before = store.compute(id, current -> {
+                if (current == null) {
+                    throw new NotFoundException(messageUtil.getMessage("customer.notfound") + " - " + id);
+                }
+                if (next.equals(current)) {
+                    throw new NoChangeException(messageUtil.getMessage("customer.nochange"));
+                }
+                replaceLocked(current, next);
+                return next;
+            });
+            modCount.incrementAndGet();
+        } finally {
+            afterCommit();
+        }
+        log.debug(messageUtil.getMessage("log.customer.save.success"));
+        return new CustomerUpdate(before, next);
+    }
+
+    /**
+     * 고객 정보의 일부 필드만 수정합니다.
+     * - changes에서 null이 아닌 필드만 현재 값에 반영하며, ID 단위 잠금 안에서 현재 값을 읽어 적용하므로 동시 수정된 다른 필드를 덮어쓰지 않습니다.
+     * - 바뀐 고유키(전화번호/이메일)만 선점하여 중복을 확인하고, 검색/정렬 색인은 바뀐 필드의 항목만 교체합니다.
+     * @param id 수정할 고객 ID
+     * @param changes 수정할 필드 값 (null인 필드는 유지, ID는 무시)
+     * @return 수정 전/후 고객 정보
+     * @throws NotFoundException 고객 정보가 존재하지 않을 경우
+     * @throws NoChangeException 변경된 정보가 없을 경우
+     * @throws ConflictException 바뀐 전화번호 또는 이메일이 다른 고객에게 등록되어 있을 경우
+     */
+    public CustomerUpdate patch(Long id, Customer changes) {
+        Customer[] patched = new Customer[1];
+        Customer before;
+        try {
+            before = store.compute(id, current -> {
+                if (current == null) {
+                    throw new NotFoundException(messageUtil.getMessage("customer.notfound") + " - " + id);
+                }
+                Customer next = store.canonicalize(Customer.builder()
+                        .id(current.getId())
+                        .address(changes.getAddress() != null ? changes.getAddress() : current.getAddress())
+                        .phoneNumber(changes.getPhoneNumber() != null ? changes.getPhoneNumber() : current.getPhoneNumber())
+                        .email(changes.getEmail() != null ? changes.getEmail() : current.getEmail())
+                        .name(changes.getName() != null ? changes.getName() : current.getName())
+                        .build());
+                if (next.equals(current)) {
+                    throw new NoChangeException(messageUtil.getMessage("customer.nochange"));
+                }
+                replaceLocked(current, next);
+                patched[0] = next;
+                return next;
+            });
+            modCount.incrementAndGet();
+        } finally {
+            afterCommit();
+        }
+        log.debug(messageUtil.getMessage("log.customer.save.success"));
+        return new CustomerUpdate(before, patched[0]);
+    }
+
+    /**
+     * 신규 고객 정보를 등록합니다.
+     * - ID 단위 잠금 안에서 ID 중복을 확인한 뒤 전화번호, 이메일 순으로 putIfAbsent 선점을 시도하고, 선점이 실패하면 앞서 선점한 키를 되돌립니다.
+     * - 모든 키를 선점한 뒤에만 새 버전을 공개하므로, 전역 잠금 없이도 동시 등록 시 고유키 중복이 발생하지 않습니다.
+     * @param customer 등록할 고객 정보
+     * @return 등록된 고객 정보
+     * @throws ConflictException ID, 전화번호 또는 이메일이 이미 등록되어 있을 경우
+     */
+    public Customer insert(Customer customer) {
+        try {
+            insertLocked(customer);
+        } finally {
+            afterCommit();
+        }
+        return customer;
+    }
+
+    /**
+     * 여러 신규 고객 정보를 순서대로 등록합니다. (대량 등록용)
+     * - 항목마다 insert와 같은 방식으로 고유키를 선점하며, 중복인 항목만 건너뛰고 나머지는 계속 등록합니다.
+     * - 리스너 후처리(변경 로그 fsync 대기 등)는 모든 항목을 반영한 뒤 한 번만 호출합니다.
+     * @param customers 등록할 고객 정보 목록
+     * @return 항목별 중복 오류 (요청 순서, 등록에 성공한 항목은 null)
+     */
+    public List<ConflictException> insertAll(List<Customer> customers) {
+        List<ConflictException> conflicts = new ArrayList<>(customers.size());
+        try {
+            for (Customer customer : customers) {
+                try {
+                    insertLocked(customer);
+                    conflicts.add(null);
+                } catch (ConflictException e) {
+                    conflicts.add(e);
+                }
+            }
+        } finally {
+            afterCommit();
+        }
+        return conflicts;
+    }
+
+    // 고유키를 선점하며 등록 (리스너 후처리는 호출 측에서 처리)
+    private Customer insertLocked(Customer customer) {
+        Customer stored = store.canonicalize(customer);
+        Long id = stored.getId();
+        String phone = phoneKey(stored.getPhoneNumber());
+        String email = emailKey(stored.getEmail());
+
+        store.compute(id, current -> {
+            if (current != null) {
+                throw new ConflictException(messageUtil.getMessage("validation.conflict.id"));
+            }
+            if (phone != null && phoneIndex.putIfAbsent(phone, id) != null) {
+                throw new ConflictException(messageUtil.getMessage("validation.conflict.phone"));
+            }
+            if (email != null && emailIndex.putIfAbsent(email, id) != null) {
+                if (phone != null) {
+                    phoneIndex.remove(phone, id);
+                }
+                throw new ConflictException(messageUtil.getMessage("validation.conflict.email"));
+            }
+            notifySaveOrRelease(stored, phone, email);
+            searchIndex.add(stored);
+            sortIndex.add(stored);
+            return stored;
+        });
+        modCount.incrementAndGet(); // 새 버전 공개 후 증가 (스냅샷이 읽은 변경 번호의 변경은 모두 보이도록)
         log.debug(messageUtil.getMessage("log.customer.save.success"));
         return customer;
     }
@@ -44,7 +215,7 @@ public class AddressBookDao {
      * @return 조회된 고객 정보 (Optional)
      */
     public Optional<Customer> findById(Long id) {
-        return Optional.ofNullable(addressBook_readOnly.get(id.toString()));
+        return Optional.ofNullable(store.get(id));
     }
 
     /**
@@ -53,12 +224,7 @@ public class AddressBookDao {
      * @return 조회된 고객 정보 (Optional)
      */
     public Optional<Customer> findByPhoneNumber(String phoneNumber) {
-        for (Customer customer : addressBook_readOnly.values()) {
-            if (phoneNumber.equals(customer.getPhoneNumber())) {
-                return Optional.of(customer);
-            }
-        }
-        return Optional.empty();
+        return findByIndex(phoneIndex, phoneKey(phoneNumber));
     }
 
     /**
@@ -67,12 +233,7 @@ public class AddressBookDao {
      * @return 조회된 고객 정보 (Optional)
      */
     public Optional<Customer> findByEmail(String email) {
-        for (Customer customer : addressBook_readOnly.values()) {
-            if (email.equals(customer.getEmail())) {
-                return Optional.of(customer);
-            }
-        }
-        return Optional.empty();
+        return findByIndex(emailIndex, emailKey(email));
     }
 
     /**
@@ -81,30 +242,357 @@ public class AddressBookDao {
      * @return 삭제된 고객 정보
      */
     public Customer delete(Customer customer) {
-        addressBook.remove(customer.getIdStr());
-        Customer customerDeleted = addressBook_readOnly.remove(customer.getIdStr());
+        Customer customerDeleted;
+        try {
+            customerDeleted = store.compute(customer.getId(), stored -> {
+                if (stored != null) {
+                    notifyDelete(stored);
+                    removeIndex(stored);
+                    searchIndex.remove(stored);
+                    sortIndex.remove(stored);
+                }
+                return null;
+            });
+            if (customerDeleted != null) {
+                modCount.incrementAndGet();
+            }
+        } finally {
+            afterCommit();
+        }
         log.debug(messageUtil.getMessage("log.customer.delete.success"));
         return customerDeleted;
     }
 
     /**
-     * 전체 주소록 데이터를 반환합니다.
+     * 여러 고객 정보를 한 번에 삭제합니다. (대량 삭제용)
+     * - 고객마다 delete와 같이 ID 단위 잠금 안에서 인덱스를 정리하고 삭제를 통지합니다.
+     * - 리스너 후처리(변경 로그 fsync 대기 등)는 모든 삭제를 반영한 뒤 한 번만 호출합니다.
+     * @param ids 삭제할 고객 ID 목록
+     * @return 삭제된 고객 정보 (요청 순서, 이미 없던 고객은 null)
+     */
+    public List<Customer> deleteAll(List<Long> ids) {
+        List<Customer> deleted = new ArrayList<>(ids.size());
+        int count = 0;
+        try {
+            for (Long id : ids) {
+                Customer customerDeleted = store.compute(id, stored -> {
+                    if (stored != null) {
+                        notifyDelete(stored);
+                        removeIndex(stored);
+                        searchIndex.remove(stored);
+                        sortIndex.remove(stored);
+                    }
+                    return null;
+                });
+                deleted.add(customerDeleted);
+                if (customerDeleted != null) {
+                    count++;
+                }
+            }
+        } finally {
+            modCount.addAndGet(count);
+            afterCommit();
+        }
+        log.debug(messageUtil.getMessage("log.customer.delete.success"));
+        return deleted;
+    }
+
+    /**
+     * 전체 주소록 데이터를 반환합니다. (최신 값을 읽는 읽기 전용 뷰)
      * @return 주소록 데이터 맵
      */
-    public Map<String, Customer> getAddressBook() {
-        return addressBook_readOnly;
+    public Map<Long, Customer> getAddressBook() {
+        return store.asMap();
+    }
+
+    /**
+     * 현재 고객 수를 반환합니다.
+     * @return 고객 수
+     */
+    public int count() {
+        return store.size();
+    }
+
+    /**
+     * 전화번호 인덱스 항목 수를 반환합니다. (모니터링/검증용)
+     * @return 전화번호 인덱스 항목 수
+     */
+    public int phoneIndexSize() {
+        return phoneIndex.size();
     }
 
-    public void setAddressBook_init() {
-        this.addressBook_init = this.toCsvLines();
+    /**
+     * 이메일 인덱스 항목 수를 반환합니다. (모니터링/검증용)
+     * @return 이메일 인덱스 항목 수
+     */
+    public int emailIndexSize() {
+        return emailIndex.size();
+    }
+
+    /**
+     * 검색 색인의 필드별 bigram 종류 수를 반환합니다. (모니터링용)
+     * @return 필드명 -> bigram 수
+     */
+    public Map<String, Integer> searchGramCounts() {
+        return searchIndex.gramCounts();
+    }
+
+    /**
+     * 현재 시점의 주소록 스냅샷을 엽니다.
+     * - 닫을 때까지 연 시점의 고객 목록을 일관되게 읽으며, 그동안에도 등록/수정/삭제는 멈추지 않습니다.
+     * - 사용 후 반드시 닫아야 이전 버전이 회수됩니다.
+     * @return 주소록 스냅샷
+     */
+    public VersionedCustomerStore.Snapshot openSnapshot() {
+        return store.snapshot();
+    }
+
+    /**
+     * 키워드 검색 대상 후보 고객을 조회합니다.
+     * - n-gram 색인으로 후보를 좁히며, 검색어가 짧아 색인을 쓸 수 없으면 스냅샷의 전체 고객을 반환합니다.
+     * - 후보는 부분일치의 상위 집합이므로 호출 측에서 반환된 (스냅샷 시점의) 값으로 CustomerSearchIndex.matches를 확인해야 합니다.
+     * - 색인은 최신 값 기준이므로 스냅샷 이후 검색 필드 값이 바뀐 고객은 후보에서 빠질 수 있습니다. (정렬 색인 순회와 같음)
+     * @param snapshot 기준 스냅샷
+     * @param filter 검색 필드 (빈 값이면 전체 필드)
+     * @param lowerKeyword 소문자로 변환된 검색어
+     * @return 후보 고객 목록
+     * @throws BizValidationException 색인하지 않는 검색 필드일 경우
+     */
+    public Collection<Customer> findCandidates(VersionedCustomerStore.Snapshot snapshot, String filter, String lowerKeyword) {
+        if (!CustomerSearchIndex.isSearchField(filter)) {
+            throw new BizValidationException(messageUtil.getMessage("validation.invalid.filter"));
+        }
+        long[] ids = searchIndex.candidates(filter, lowerKeyword);
+        if (ids == null) {
+            return snapshot;
+        }
+        List<Customer> candidates = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            Customer customer = snapshot.get(id);
+            if (customer != null) {
+                candidates.add(customer);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 정렬 기준 순서대로 고객 목록을 반환합니다. (정렬 색인 순회, 별도 정렬 없음)
+     * - 정렬 색인의 고객ID를 스냅샷에서 찾아, 스냅샷 시점의 값이 같은 정렬 위치인 고객만 반환합니다.
+     * - 정렬 색인은 최신 값 기준이므로 스냅샷 이후 정렬 값이 바뀐 고객은 순회에서 빠집니다.
+     * @param snapshot 기준 스냅샷
+     * @param sortBy 정렬 기준
+     * @param desc 내림차순 여부
+     * @param after 이 고객 다음부터 순회 (null이면 처음부터)
+     * @return 정렬된 고객 목록 (순회할 때 고객 정보를 찾음)
+     */
+    public Iterable<Customer> findAllSorted(VersionedCustomerStore.Snapshot snapshot, String sortBy, boolean desc, Customer after) {
+        NavigableSet<CustomerSortIndex.SortKey> keys = sortIndex.ordered(sortBy, desc, after);
+        return () -> new Iterator<>() {
+            private final Iterator<CustomerSortIndex.SortKey> it = keys.iterator();
+            private Customer next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && it.hasNext()) {
+                    CustomerSortIndex.SortKey key = it.next();
+                    Customer customer = snapshot.get(key.id());
+                    next = CustomerSortIndex.matches(key, customer, sortBy) ? customer : null;
+                }
+                return next != null;
+            }
+
+            @Override
+            public Customer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Customer customer = next;
+                next = null;
+                return customer;
+            }
+        };
+    }
+
+    /**
+     * 고객 정보 저장 방식을 설정합니다. (object: 고객 객체 그대로, compact: 열 단위 압축 레코드, offheap: 힙 밖 메모리)
+     * - 저장소를 새로 만들므로 데이터를 적재하기 전에만 바꿀 수 있습니다.
+     * @param storage 저장 방식
+     * @throws IllegalStateException 이미 고객 정보가 있을 경우
+     */
+    @Value("${addressbook.storage:object}")
+    public void setStorage(String storage) {
+        if (store.size() > 0) {
+            throw new IllegalStateException("Storage can only be changed before loading customers");
+        }
+        store = new VersionedCustomerStore(CustomerRecordCodec.of(storage));
+    }
+
+    /**
+     * 보조 인덱스로 고객 정보를 조회합니다.
+     * @param index 조회할 인덱스
+     * @param key 정규화된 인덱스 키
+     * @return 조회된 고객 정보 (Optional)
+     */
+    private Optional<Customer> findByIndex(Map<String, Long> index, String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        Long id = index.get(key);
+        return id == null ? Optional.empty() : Optional.ofNullable(store.get(id));
+    }
+
+    // 변경 리스너에 저장 통지 (ID 잠금 안에서 색인을 바꾸기 전에 호출하여, 리스너가 거부하면 변경하지 않음)
+    private void notifySave(Customer customer) {
+        AddressBookChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.onSave(customer);
+        }
+    }
+
+    // 변경 리스너에 저장 통지, 리스너가 거부하면(변경 로그 기록 실패 등) 선점한 고유키를 되돌리고 예외 전파 (ID 잠금 안에서 호출)
+    private void notifySaveOrRelease(Customer customer, String claimedPhone, String claimedEmail) {
+        try {
+            notifySave(customer);
+        } catch (RuntimeException e) {
+            if (claimedPhone != null) {
+                phoneIndex.remove(claimedPhone, customer.getId());
+            }
+            if (claimedEmail != null) {
+                emailIndex.remove(claimedEmail, customer.getId());
+            }
+            throw e;
+        }
+    }
+
+    // 변경 리스너에 삭제 통지 (ID 잠금 안에서 호출)
+    private void notifyDelete(Customer customer) {
+        AddressBookChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.onDelete(customer);
+        }
+    }
+
+    // 변경 반영 완료 후 리스너 후처리 (잠금 밖에서 호출)
+    private void afterCommit() {
+        AddressBookChangeListener listener = changeListener;
+        if (listener != null) {
+            listener.afterCommit();
+        }
+    }
+
+    // 바뀐 고유키만 선점하여 현재 값을 새 값으로 교체 (ID 잠금 안에서 호출, 선점 실패 시 선점한 키를 되돌리고 ConflictException)
+    private void replaceLocked(Customer current, Customer next) {
+        Long id = current.getId();
+        String oldPhone = phoneKey(current.getPhoneNumber());
+        String newPhone = phoneKey(next.getPhoneNumber());
+        boolean phoneChanged = newPhone != null && !newPhone.equals(oldPhone);
+        String oldEmail = emailKey(current.getEmail());
+        String newEmail = emailKey(next.getEmail());
+        boolean emailChanged = newEmail != null && !newEmail.equals(oldEmail);
+        if (phoneChanged && phoneIndex.putIfAbsent(newPhone, id) != null) {
+            throw new ConflictException(messageUtil.getMessage("validation.conflict.phone"));
+        }
+        if (emailChanged && emailIndex.putIfAbsent(newEmail, id) != null) {
+            if (phoneChanged) {
+                phoneIndex.remove(newPhone, id);
+            }
+            throw new ConflictException(messageUtil.getMessage("validation.conflict.email"));
+        }
+        notifySaveOrRelease(next, phoneChanged ? newPhone : null, emailChanged ? newEmail : null);
+        if (oldPhone != null && !oldPhone.equals(newPhone)) {
+            phoneIndex.remove(oldPhone, id);
+        }
+        if (oldEmail != null && !oldEmail.equals(newEmail)) {
+            emailIndex.remove(oldEmail, id);
+        }
+        searchIndex.update(current, next);
+        sortIndex.update(current, next);
+    }
+
+    // 고객의 전화번호/이메일을 인덱스에 등록 (변경 로그 재적용용, 중복 확인 없음)
+    private void addIndex(Customer customer) {
+        String phone = phoneKey(customer.getPhoneNumber());
+        if (phone != null) {
+            phoneIndex.put(phone, customer.getId());
+        }
+        String email = emailKey(customer.getEmail());
+        if (email != null) {
+            emailIndex.put(email, customer.getId());
+        }
+    }
+
+    // 고객의 전화번호/이메일을 인덱스에서 제거 (다른 고객이 선점한 키는 건드리지 않음)
+    private void removeIndex(Customer customer) {
+        if (customer == null) {
+            return;
+        }
+        String phone = phoneKey(customer.getPhoneNumber());
+        if (phone != null) {
+            phoneIndex.remove(phone, customer.getId());
+        }
+        String email = emailKey(customer.getEmail());
+        if (email != null) {
+            emailIndex.remove(email, customer.getId());
+        }
+    }
+
+    /**
+     * 전화번호 인덱스 키를 생성합니다. ('-' 제거)
+     * @param phoneNumber 전화번호
+     * @return 정규화된 전화번호
+     */
+    public static String phoneKey(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        return phoneNumber.indexOf('-') < 0 ? phoneNumber : phoneNumber.replace("-", "");
+    }
+
+    /**
+     * 이메일 인덱스 키를 생성합니다. (소문자 변환)
+     * @param email 이메일
+     * @return 정규화된 이메일
+     */
+    public static String emailKey(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 현재 변경 번호를 반환합니다. (저장/등록/삭제마다 1씩 증가)
+     * @return 변경 번호
+     */
+    public long getModCount() {
+        return modCount.get();
+    }
+
+    /**
+     * 주어진 변경 번호까지 파일에 저장되었음을 기록합니다.
+     * - 저장할 데이터를 만들기 전에 읽은 변경 번호를 넘겨야, 저장 중 발생한 변경이 다음 저장 대상으로 남습니다.
+     * @param savedModCount 저장된 데이터의 변경 번호
+     */
+    public void markClean(long savedModCount) {
+        this.savedModCount = savedModCount;
+    }
+
+    /**
+     * 마지막 저장 이후 변경이 있는지 확인합니다. (O(1))
+     * @return 변경 여부
+     */
+    public boolean isDirty() {
+        return modCount.get() != savedModCount;
     }
 
     /**
      * 주소록 데이터를 CSV 형식의 문자열 목록으로 변환합니다.
+     * - 한 스냅샷 시점의 고객만 대상으로 하여, 변환 도중의 변경이나 등록 도중 실패할 수 있는 고객은 포함하지 않습니다.
      * @return CSV 형식의 문자열 목록
      */
     public List<String> toCsvLines() {
-        List<Customer> customerList = new ArrayList<>(addressBook.values());
+        List<Customer> customerList;
+        try (VersionedCustomerStore.Snapshot snapshot = store.snapshot()) {
+            customerList = new ArrayList<>(snapshot);
+        }
         customerList.sort(Comparator.comparing(Customer::getId));
         List<String> lines = new ArrayList<>();
         lines.add("고객ID,주소,연락처,이메일,이름"); // 헤더
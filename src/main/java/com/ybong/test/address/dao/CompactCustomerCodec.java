@@ -0,0 +1,388 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 열 단위(struct-of-arrays) 압축 고객 레코드 형식
+ * - 고객 한 명을 행 번호 하나로 보관하고, 각 필드는 행 번호를 위치로 하는 기본형 열 배열에 나누어 저장합니다.
+ *   (고객ID: long[], 주소/이름: 사전 번호 int[], 전화번호: 압축 long[], 이메일: 바이트 영역 참조 long[])
+ * - 반복이 많은 주소/이름은 문자열 사전의 번호로, 숫자만으로 된 전화번호는 long 하나로 압축하며,
+ *   이메일과 압축할 수 없는 전화번호는 공유 바이트 영역(ByteArena)에 UTF-8로 기록합니다.
+ * - 버전 체인에는 행 번호와 세대 번호(stamp)를 묶은 long 값만 보관하고, 고객 객체는 조회할 때마다 새로 만듭니다.
+ * - 저장소가 회수한 행은 세대 번호를 0으로 바꾼 뒤 재사용하며, 잠금 없이 읽는 쪽은 읽기 전후의 세대 번호를 비교하여
+ *   읽는 중에 회수/재사용된 행을 감지합니다. (OffHeapMemory와 같은 방식)
+ * - 행 할당/회수는 잠금으로 직렬화하고, 조회는 잠금 없이 동작합니다. 사전은 한 번 등록된 값을 지우지 않으므로,
+ *   서로 다른 값의 종류가 제한적인 필드에만 사용합니다.
+ */
+public class CompactCustomerCodec implements CustomerRecordCodec {
+
+    // 전화번호 압축: 5비트 자릿수(58~62비트) + 하위 58비트 숫자 값 (최대 17자리, 앞자리 0 보존, 최상위 비트는 항상 0)
+    private static final int PHONE_LENGTH_SHIFT = 58;
+    private static final long PHONE_VALUE_MASK = (1L << PHONE_LENGTH_SHIFT) - 1;
+    private static final int MAX_PACKED_DIGITS = 17;
+    private static final long NO_PHONE = -1;
+    // 전화번호 열에서 최상위 비트가 켜진 값은 바이트 영역 참조 (압축할 수 없는 전화번호)
+    private static final long TEXT_PHONE = Long.MIN_VALUE;
+    // null 문자열 (전화번호/이메일 열)
+    private static final long NULL_REF = -1;
+
+    private static final int ROW_BITS = 12;
+    private static final int ROWS_PER_CHUNK = 1 << ROW_BITS;              // 열 청크 하나의 행 수
+    private static final int ROW_MASK = ROWS_PER_CHUNK - 1;
+    private static final int FREE = 0;
+    private static final VarHandle STAMP = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final StringDictionary addresses = new StringDictionary();
+    private final StringDictionary names = new StringDictionary();
+    private final ByteArena texts = new ByteArena();
+    private volatile Columns[] chunks = new Columns[0];
+    private final IntStack freeRows = new IntStack();
+    private int rowCount;                                                   // 잘라낸 행 수
+    private int stamps;                                                     // 마지막으로 발급한 세대 번호
+
+    @Override
+    public synchronized Object encode(Customer customer) {
+        String phoneNumber = customer.getPhoneNumber();
+        long phone = packPhone(phoneNumber);
+        byte[] phoneText = phone == NO_PHONE && phoneNumber != null ? utf8(phoneNumber) : null;
+        byte[] email = customer.getEmail() == null ? null : utf8(customer.getEmail());
+        texts.checkLength(phoneText);
+        texts.checkLength(email);
+
+        int row = allocateRow();
+        int stamp = nextStamp();
+        Columns chunk = chunks[row >>> ROW_BITS];
+        int index = row & ROW_MASK;
+        // 회수된 행의 세대 번호는 이미 0이므로, 값을 먼저 쓰고 세대 번호를 마지막에 공개
+        chunk.ids[index] = customer.getId();
+        chunk.addresses[index] = addresses.encode(customer.getAddress());
+        chunk.names[index] = names.encode(customer.getName());
+        chunk.phones[index] = phone != NO_PHONE ? phone : phoneText == null ? NULL_REF : TEXT_PHONE | texts.write(phoneText);
+        chunk.emails[index] = email == null ? NULL_REF : texts.write(email);
+        STAMP.setRelease(chunk.stamps, index, stamp);
+        return ((long) row << Integer.SIZE) | (stamp & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public Customer decode(Object record) {
+        long handle = (Long) record;
+        int row = (int) (handle >>> Integer.SIZE);
+        int stamp = (int) handle;
+        Columns chunk = chunks[row >>> ROW_BITS];
+        int index = row & ROW_MASK;
+        if ((int) STAMP.getAcquire(chunk.stamps, index) != stamp) {
+            return null;
+        }
+        long id = chunk.ids[index];
+        String address = addresses.decode(chunk.addresses[index]);
+        String name = names.decode(chunk.names[index]);
+        long phone = chunk.phones[index];
+        String phoneNumber = phone == NULL_REF ? null : phone < 0 ? texts.read(phone & ~TEXT_PHONE) : unpackPhone(phone);
+        String email = texts.read(chunk.emails[index]);
+        VarHandle.acquireFence();
+        if ((int) STAMP.getOpaque(chunk.stamps, index) != stamp) {
+            return null; // 읽는 중에 회수/재사용됨
+        }
+        return Customer.builder()
+                .id(id)
+                .address(address)
+                .phoneNumber(phoneNumber)
+                .email(email)
+                .name(name)
+                .build();
+    }
+
+    @Override
+    public synchronized void release(Object record) {
+        long handle = (Long) record;
+        int row = (int) (handle >>> Integer.SIZE);
+        Columns chunk = chunks[row >>> ROW_BITS];
+        int index = row & ROW_MASK;
+        if (chunk.stamps[index] != (int) handle) {
+            return;
+        }
+        STAMP.setRelease(chunk.stamps, index, FREE);
+        long phone = chunk.phones[index];
+        if (phone != NULL_REF && phone < 0) {
+            texts.free(phone & ~TEXT_PHONE);
+        }
+        texts.free(chunk.emails[index]);
+        freeRows.push(row);
+    }
+
+    /**
+     * 주소/이름을 사전에 등록된 문자열 인스턴스로 바꾼 고객 객체를 반환하여, 색인이 원본 문자열을 붙잡지 않도록 합니다.
+     * - 행을 할당하지 않으며, 이미 사전의 인스턴스를 쓰고 있으면 같은 객체를 반환합니다.
+     */
+    @Override
+    public Customer canonicalize(Customer customer) {
+        String address = addresses.canonical(customer.getAddress());
+        String name = names.canonical(customer.getName());
+        if (address == customer.getAddress() && name == customer.getName()) {
+            return customer;
+        }
+        return Customer.builder()
+                .id(customer.getId())
+                .address(address)
+                .phoneNumber(customer.getPhoneNumber())
+                .email(customer.getEmail())
+                .name(name)
+                .build();
+    }
+
+    /**
+     * 사용 중인 행 수를 반환합니다. (회수되어 재사용을 기다리는 행 제외)
+     * @return 행 수
+     */
+    synchronized int liveRows() {
+        return rowCount - freeRows.size();
+    }
+
+    // 회수된 행이 있으면 재사용하고, 없으면 마지막 청크에서 새 행을 잘라냄 (청크가 가득 차면 열 청크 추가)
+    private int allocateRow() {
+        if (!freeRows.isEmpty()) {
+            return freeRows.pop();
+        }
+        if (rowCount == chunks.length * ROWS_PER_CHUNK) {
+            Columns[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+            grown[grown.length - 1] = new Columns();
+            chunks = grown;
+        }
+        return rowCount++;
+    }
+
+    // 0(회수 표시)을 건너뛰며 세대 번호 발급
+    private int nextStamp() {
+        if (++stamps == FREE) {
+            ++stamps;
+        }
+        return stamps;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 숫자로만 된 전화번호를 long 하나로 압축합니다.
+     * @param phoneNumber 전화번호
+     * @return 압축 값 (0 이상, 압축할 수 없으면 -1)
+     */
+    static long packPhone(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.isEmpty() || phoneNumber.length() > MAX_PACKED_DIGITS) {
+            return NO_PHONE;
+        }
+        long value = 0;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char ch = phoneNumber.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return NO_PHONE;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return ((long) phoneNumber.length() << PHONE_LENGTH_SHIFT) | value;
+    }
+
+    /**
+     * 압축된 전화번호를 문자열로 되돌립니다.
+     * @param packed packPhone으로 만든 값
+     * @return 전화번호
+     */
+    static String unpackPhone(long packed) {
+        int length = (int) (packed >>> PHONE_LENGTH_SHIFT);
+        long value = packed & PHONE_VALUE_MASK;
+        byte[] digits = new byte[length];
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return new String(digits, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 열 청크 (ROWS_PER_CHUNK개 행의 필드별 기본형 배열)
+     * - stamps: 행의 세대 번호 (0이면 비어 있음)
+     * - addresses/names: 사전 번호 (-1은 null)
+     * - phones: 압축 전화번호 (0 이상), 바이트 영역 참조 (최상위 비트), null(-1)
+     * - emails: 바이트 영역 참조 (-1은 null)
+     */
+    private static final class Columns {
+        private final int[] stamps = new int[ROWS_PER_CHUNK];
+        private final long[] ids = new long[ROWS_PER_CHUNK];
+        private final int[] addresses = new int[ROWS_PER_CHUNK];
+        private final int[] names = new int[ROWS_PER_CHUNK];
+        private final long[] phones = new long[ROWS_PER_CHUNK];
+        private final long[] emails = new long[ROWS_PER_CHUNK];
+    }
+
+    /**
+     * 공유 바이트 영역
+     * - 고정 크기 블록(BLOCK_SIZE)을 필요할 때마다 할당하고, 블록 안에서 GRANULE 단위로 잘라 문자열 바이트를 기록합니다.
+     * - 참조 값은 위치(상위 32비트)와 길이(하위 32비트)를 묶은 long이며, 해제된 공간은 크기별 빈 목록에 모아 재사용합니다.
+     * - 기록/해제는 CompactCustomerCodec의 잠금 안에서 호출하고, 읽기는 잠금 없이 동작합니다.
+     *   (읽은 값의 유효성은 호출 측이 행의 세대 번호로 확인하며, 범위를 벗어난 참조는 null로 읽음)
+     */
+    private static final class ByteArena {
+        private static final int BLOCK_BITS = 20;
+        private static final int BLOCK_SIZE = 1 << BLOCK_BITS;              // 블록 하나의 크기 (1MB)
+        private static final int GRANULE = 4;
+
+        private volatile byte[][] blocks = new byte[0][];
+        private final Map<Integer, IntStack> freeSpaces = new HashMap<>();  // 크기(GRANULE 단위 개수) -> 빈 공간 위치
+        private int top = BLOCK_SIZE;                                       // 마지막 블록에서 다음에 잘라낼 위치
+
+        void checkLength(byte[] data) {
+            if (data != null && data.length > BLOCK_SIZE) {
+                throw new IllegalArgumentException("Value too large for compact storage: " + data.length + " bytes");
+            }
+        }
+
+        long write(byte[] data) {
+            if (data.length == 0) {
+                return 0;
+            }
+            int position = allocate(units(data.length));
+            System.arraycopy(data, 0, blocks[position >>> BLOCK_BITS], position & (BLOCK_SIZE - 1), data.length);
+            return ((long) position << Integer.SIZE) | data.length;
+        }
+
+        String read(long ref) {
+            if (ref == NULL_REF) {
+                return null;
+            }
+            int position = (int) (ref >>> Integer.SIZE);
+            int length = (int) ref;
+            byte[][] current = blocks;
+            int block = position >>> BLOCK_BITS;
+            int offset = position & (BLOCK_SIZE - 1);
+            if (length == 0) {
+                return "";
+            }
+            if (block >= current.length || length < 0 || offset + length > BLOCK_SIZE) {
+                return null;
+            }
+            return new String(current[block], offset, length, StandardCharsets.UTF_8);
+        }
+
+        void free(long ref) {
+            int length = (int) ref;
+            if (ref == NULL_REF || length == 0) {
+                return;
+            }
+            freeSpaces.computeIfAbsent(units(length), key -> new IntStack()).push((int) (ref >>> Integer.SIZE));
+        }
+
+        // 같은 크기의 빈 공간이 있으면 재사용하고, 없으면 마지막 블록에서 잘라냄 (남은 공간이 부족하면 새 블록)
+        private int allocate(int units) {
+            IntStack stack = freeSpaces.get(units);
+            if (stack != null && !stack.isEmpty()) {
+                return stack.pop();
+            }
+            int size = units * GRANULE;
+            if (top + size > BLOCK_SIZE) {
+                int rest = (BLOCK_SIZE - top) / GRANULE;
+                if (rest > 0) {
+                    // 블록 끝의 남은 공간은 그 크기의 빈 공간으로 돌려둠
+                    freeSpaces.computeIfAbsent(rest, key -> new IntStack()).push(((blocks.length - 1) << BLOCK_BITS) | top);
+                }
+                if (blocks.length == 1 << (Integer.SIZE - 1 - BLOCK_BITS)) {
+                    throw new IllegalStateException("Compact storage text area is full");
+                }
+                byte[][] grown = Arrays.copyOf(blocks, blocks.length + 1);
+                grown[grown.length - 1] = new byte[BLOCK_SIZE];
+                blocks = grown;
+                top = 0;
+            }
+            int position = ((blocks.length - 1) << BLOCK_BITS) | top;
+            top += size;
+            return position;
+        }
+
+        private static int units(int length) {
+            return (length + GRANULE - 1) / GRANULE;
+        }
+    }
+
+    /**
+     * int 스택 (빈 행 번호, 빈 공간 위치 보관용)
+     */
+    private static final class IntStack {
+        private int[] values = new int[16];
+        private int size;
+
+        void push(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int pop() {
+            return values[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * 문자열 사전 (값 -> 번호, 번호 -> 값)
+     * - 조회(decode)는 잠금 없이 배열에서 읽고, 새 값 등록만 잠금으로 직렬화합니다.
+     */
+    static final class StringDictionary {
+        private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+        private volatile String[] values = new String[1024];
+        private int size;
+
+        int encode(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            synchronized (this) {
+                code = codes.get(value);
+                if (code != null) {
+                    return code;
+                }
+                String[] current = values;
+                if (size == current.length) {
+                    current = Arrays.copyOf(current, size * 2);
+                }
+                current[size] = value;
+                values = current;
+                codes.put(value, size); // 배열에 값을 넣은 뒤 번호를 공개
+                return size++;
+            }
+        }
+
+        String decode(int code) {
+            String[] current = values;
+            return code < 0 || code >= current.length ? null : current[code];
+        }
+
+        // 사전에 등록된 같은 값의 인스턴스 (처음 보는 값이면 등록)
+        String canonical(String value) {
+            return value == null ? null : decode(encode(value));
+        }
+
+        int size() {
+            return codes.size();
+        }
+    }
+}
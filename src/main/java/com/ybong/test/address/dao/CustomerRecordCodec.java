@@ -0,0 +1,68 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+
+/**
+ * 저장소에 보관할 고객 레코드 형식
+ * - encode로 만든 레코드를 버전 체인에 보관하고, 조회 시 decode로 고객 객체를 만듭니다.
+ * - 레코드는 만든 뒤 변경하지 않아야 하며, decode는 여러 스레드에서 잠금 없이 호출됩니다.
+ * - 저장소는 어떤 스냅샷에서도 읽히지 않게 된 버전의 레코드를 release로 알리며, 같은 레코드를 두 번 알리지 않습니다.
+ */
+public interface CustomerRecordCodec {
+
+    /** 고객 객체를 그대로 보관 (변환 비용 없음) */
+    CustomerRecordCodec OBJECT = new CustomerRecordCodec() {
+        @Override
+        public Object encode(Customer customer) {
+            return customer;
+        }
+
+        @Override
+        public Customer decode(Object record) {
+            return (Customer) record;
+        }
+    };
+
+    /**
+     * 고객 정보를 보관용 레코드로 변환합니다.
+     * @param customer 고객 정보
+     * @return 레코드
+     */
+    Object encode(Customer customer);
+
+    /**
+     * 레코드로 고객 객체를 만듭니다.
+     * - 잠금 없는 최신 조회는 교체 직후 회수된 레코드를 읽을 수 있으며, 이 경우 null을 반환하면 저장소가 최신 버전으로 다시 읽습니다.
+     * @param record encode로 만든 레코드
+     * @return 고객 정보 (레코드가 이미 회수되었으면 null)
+     */
+    Customer decode(Object record);
+
+    /**
+     * 더 이상 읽히지 않는 레코드를 회수합니다. (기본: 아무것도 하지 않음)
+     * @param record encode로 만든 레코드
+     */
+    default void release(Object record) {
+    }
+
+    /**
+     * 저장할 고객 정보를 보관되는 형태로 맞춥니다. (기본: 같은 객체)
+     * @param customer 고객 정보
+     * @return 보관 형태의 고객 정보
+     */
+    default Customer canonicalize(Customer customer) {
+        return customer;
+    }
+
+    /**
+     * 저장 방식 설정값에 맞는 형식을 반환합니다.
+     * @param storage 저장 방식 (compact: 열 단위 압축 레코드, offheap: 힙 밖 메모리, 그 외: 객체 그대로)
+     * @return 레코드 형식
+     */
+    static CustomerRecordCodec of(String storage) {
+        if ("compact".equalsIgnoreCase(storage)) {
+            return new CompactCustomerCodec();
+        }
+        return "offheap".equalsIgnoreCase(storage) ? new OffHeapCustomerCodec() : OBJECT;
+    }
+}
@@ -0,0 +1,259 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 고객 검색용 n-gram 역색인
+ * - 이름/주소/전화번호/이메일 값을 소문자로 변환한 뒤 2글자(bigram) 단위로 색인
+ * - 한글 음절은 한 글자가 하나의 char이므로 2음절 이름/지명도 그대로 색인됨
+ * - bigram별 고객ID는 boxing 없는 포스팅 리스트(LongPostingList)에 보관하며, bigram 단위 변경은 ConcurrentHashMap.compute로 직렬화
+ * - 검색어의 모든 bigram 포스팅을 짧은 순으로 교집합하여 후보 ID를 구하며, 최종 부분일치 여부는 호출 측에서 matches로 확인
+ * - 색인하지 않는 필드를 지정하면 후보 조회와 일치 확인 모두 IllegalArgumentException을 던짐
+ */
+public class CustomerSearchIndex {
+
+    public static final int GRAM_SIZE = 2;
+
+    // 필드명 -> 값 추출 함수 (검색 filter 파라미터 값과 동일한 이름 사용)
+    private static final Map<String, Function<Customer, String>> FIELDS = Map.of(
+            "name", Customer::getName,
+            "address", Customer::getAddress,
+            "phoneNumber", Customer::getPhoneNumber,
+            "email", Customer::getEmail
+    );
+
+    // 필드명 -> (bigram -> 고객ID 포스팅 리스트)
+    private final Map<String, Map<String, LongPostingList>> postings = new HashMap<>();
+
+    public CustomerSearchIndex() {
+        for (String field : FIELDS.keySet()) {
+            postings.put(field, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 고객 정보를 색인에 추가합니다.
+     * @param customer 추가할 고객 정보
+     */
+    public void add(Customer customer) {
+        long id = customer.getId();
+        FIELDS.forEach((field, getter) -> {
+            Map<String, LongPostingList> fieldPostings = postings.get(field);
+            for (String gram : grams(normalize(getter.apply(customer)))) {
+                addPosting(fieldPostings, gram, id);
+            }
+        });
+    }
+
+    /**
+     * 고객 정보를 색인에서 제거합니다.
+     * @param customer 제거할 고객 정보 (null이면 무시)
+     */
+    public void remove(Customer customer) {
+        if (customer == null) {
+            return;
+        }
+        long id = customer.getId();
+        FIELDS.forEach((field, getter) -> {
+            Map<String, LongPostingList> fieldPostings = postings.get(field);
+            for (String gram : grams(normalize(getter.apply(customer)))) {
+                removePosting(fieldPostings, gram, id);
+            }
+        });
+    }
+
+    /**
+     * 같은 고객의 수정 전/후 값을 비교하여 바뀐 필드의 bigram만 색인에서 교체합니다.
+     * @param before 수정 전 고객 정보 (null이면 추가)
+     * @param after 수정 후 고객 정보 (null이면 제거)
+     */
+    public void update(Customer before, Customer after) {
+        if (before == null || after == null) {
+            remove(before);
+            if (after != null) {
+                add(after);
+            }
+            return;
+        }
+        long id = after.getId();
+        FIELDS.forEach((field, getter) -> {
+            String oldValue = normalize(getter.apply(before));
+            String newValue = normalize(getter.apply(after));
+            if (Objects.equals(oldValue, newValue)) {
+                return;
+            }
+            Map<String, LongPostingList> fieldPostings = postings.get(field);
+            Set<String> oldGrams = grams(oldValue);
+            Set<String> newGrams = grams(newValue);
+            for (String gram : oldGrams) {
+                if (!newGrams.contains(gram)) {
+                    removePosting(fieldPostings, gram, id);
+                }
+            }
+            for (String gram : newGrams) {
+                if (!oldGrams.contains(gram)) {
+                    addPosting(fieldPostings, gram, id);
+                }
+            }
+        });
+    }
+
+    /**
+     * 검색어를 포함할 수 있는 후보 고객 ID를 조회합니다.
+     * @param filter 검색 필드 (null 또는 빈 값이면 전체 필드)
+     * @param lowerKeyword 소문자로 변환된 검색어
+     * @return 후보 고객 ID (오름차순, 중복 없음), 검색어가 GRAM_SIZE보다 짧아 색인을 쓸 수 없으면 null
+     * @throws IllegalArgumentException 색인하지 않는 필드일 경우
+     */
+    public long[] candidates(String filter, String lowerKeyword) {
+        if (filter != null && !filter.isEmpty()) {
+            requireField(filter);
+        }
+        if (lowerKeyword == null || lowerKeyword.length() < GRAM_SIZE) {
+            return null;
+        }
+        Set<String> keywordGrams = grams(lowerKeyword);
+        if (filter != null && !filter.isEmpty()) {
+            return intersect(postings.get(filter), keywordGrams);
+        }
+        long[][] matches = new long[postings.size()][];
+        int total = 0;
+        int field = 0;
+        for (Map<String, LongPostingList> fieldPostings : postings.values()) {
+            matches[field] = intersect(fieldPostings, keywordGrams);
+            total += matches[field++].length;
+        }
+        return union(matches, total);
+    }
+
+    /**
+     * 고객 정보가 검색어를 부분일치(대소문자 무시)하는지 확인합니다.
+     * - candidates 후보의 최종 확인용이며, 후보를 꺼낸 스냅샷의 값으로 확인해야 결과가 그 스냅샷과 일치합니다.
+     * @param customer 고객 정보
+     * @param filter 검색 필드 (null 또는 빈 값이면 전체 필드)
+     * @param lowerKeyword 소문자로 변환된 검색어 (null이면 항상 일치)
+     * @return 일치 여부
+     * @throws IllegalArgumentException 색인하지 않는 필드일 경우
+     */
+    public static boolean matches(Customer customer, String filter, String lowerKeyword) {
+        if (filter != null && !filter.isEmpty()) {
+            return contains(requireField(filter).apply(customer), lowerKeyword);
+        }
+        if (lowerKeyword == null) {
+            return true;
+        }
+        for (Function<Customer, String> getter : FIELDS.values()) {
+            if (contains(getter.apply(customer), lowerKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 검색 필드로 사용할 수 있는 값인지 확인합니다.
+     * @param filter 검색 필드
+     * @return null/빈 값(전체 필드)이거나 색인하는 필드이면 true
+     */
+    public static boolean isSearchField(String filter) {
+        return filter == null || filter.isEmpty() || FIELDS.containsKey(filter);
+    }
+
+    /**
+     * 필드별 bigram 종류 수를 반환합니다.
+     * @return 필드명 -> bigram 수
+     */
+    public Map<String, Integer> gramCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        postings.forEach((field, fieldPostings) -> counts.put(field, fieldPostings.size()));
+        return counts;
+    }
+
+    private static void addPosting(Map<String, LongPostingList> fieldPostings, String gram, long id) {
+        fieldPostings.compute(gram, (key, ids) -> {
+            LongPostingList target = ids == null ? new LongPostingList() : ids;
+            target.add(id);
+            return target;
+        });
+    }
+
+    private static void removePosting(Map<String, LongPostingList> fieldPostings, String gram, long id) {
+        fieldPostings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // 검색어 bigram의 포스팅 리스트를 교집합 (하나라도 없으면 즉시 종료)
+    private static long[] intersect(Map<String, LongPostingList> fieldPostings, Set<String> keywordGrams) {
+        List<LongPostingList> lists = new ArrayList<>(keywordGrams.size());
+        for (String gram : keywordGrams) {
+            LongPostingList ids = fieldPostings.get(gram);
+            if (ids == null || ids.isEmpty()) {
+                return new long[0];
+            }
+            lists.add(ids);
+        }
+        return LongPostingList.intersect(lists);
+    }
+
+    // 필드별 후보 ID의 합집합 (오름차순, 중복 제거)
+    private static long[] union(long[][] matches, int total) {
+        long[] ids = new long[total];
+        int count = 0;
+        for (long[] match : matches) {
+            System.arraycopy(match, 0, ids, count, match.length);
+            count += match.length;
+        }
+        Arrays.sort(ids);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct == count ? ids : Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * 색인/검색에 사용할 소문자 값으로 변환합니다.
+     * @param value 원본 값
+     * @return 소문자 값 (null이면 null)
+     */
+    public static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    // 색인하는 필드의 값 추출 함수 (없으면 IllegalArgumentException)
+    private static Function<Customer, String> requireField(String filter) {
+        Function<Customer, String> getter = FIELDS.get(filter);
+        if (getter == null) {
+            throw new IllegalArgumentException("Unknown search field: " + filter);
+        }
+        return getter;
+    }
+
+    // 검색어 부분일치 (검색어가 null이면 항상 일치)
+    private static boolean contains(String value, String lowerKeyword) {
+        if (lowerKeyword == null) {
+            return true;
+        }
+        return value != null && normalize(value).contains(lowerKeyword);
+    }
+
+    // 문자열의 중복 없는 bigram 목록
+    private static Set<String> grams(String value) {
+        if (value == null || value.length() < GRAM_SIZE) {
+            return Collections.emptySet();
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
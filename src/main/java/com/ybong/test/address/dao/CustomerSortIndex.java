@@ -0,0 +1,152 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 고객 정렬 색인
+ * - 정렬 기준(name/address/phoneNumber/email)별로 (소문자 정렬키, 고객ID) 순서의 skip-list를 유지
+ * - 조회 시 정렬 없이 순서대로 순회하며, 내림차순은 역순 순회로 처리
+ * - 고객 객체 대신 정렬키만 보관하므로, 순회한 고객ID의 고객 정보는 저장소(스냅샷)에서 찾아야 함
+ * - 정렬키는 저장 시점의 값으로 만들어 두므로 저장된 고객 객체를 직접 수정하면 안 됨
+ */
+public class CustomerSortIndex {
+
+    public static final List<String> SORT_FIELDS = List.of("name", "address", "phoneNumber", "email");
+
+    // 정렬 기준 -> 정렬키 집합
+    private final Map<String, ConcurrentSkipListSet<SortKey>> views = new HashMap<>();
+
+    public CustomerSortIndex() {
+        for (String field : SORT_FIELDS) {
+            views.put(field, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    /**
+     * 고객 정보를 모든 정렬 색인에 추가합니다.
+     * @param customer 추가할 고객 정보
+     */
+    public void add(Customer customer) {
+        views.forEach((field, view) -> view.add(SortKey.of(customer, field)));
+    }
+
+    /**
+     * 고객 정보를 모든 정렬 색인에서 제거합니다.
+     * @param customer 제거할 고객 정보 (null이면 무시)
+     */
+    public void remove(Customer customer) {
+        if (customer == null) {
+            return;
+        }
+        views.forEach((field, view) -> view.remove(SortKey.of(customer, field)));
+    }
+
+    /**
+     * 같은 고객의 수정 전/후 정렬키를 비교하여 바뀐 정렬 기준의 색인만 교체합니다.
+     * @param before 수정 전 고객 정보 (null이면 추가)
+     * @param after 수정 후 고객 정보 (null이면 제거)
+     */
+    public void update(Customer before, Customer after) {
+        if (before == null || after == null) {
+            remove(before);
+            if (after != null) {
+                add(after);
+            }
+            return;
+        }
+        views.forEach((field, view) -> {
+            SortKey oldKey = SortKey.of(before, field);
+            SortKey newKey = SortKey.of(after, field);
+            if (!oldKey.equals(newKey)) {
+                view.remove(oldKey);
+                view.add(newKey);
+            }
+        });
+    }
+
+    /**
+     * 정렬 순서대로 정렬키를 반환합니다. (복사 없이 색인을 그대로 순회하는 뷰)
+     * @param sortBy 정렬 기준
+     * @param desc 내림차순 여부
+     * @param after 이 고객 다음부터 순회 (null이면 처음부터)
+     * @return 정렬된 정렬키 뷰
+     */
+    NavigableSet<SortKey> ordered(String sortBy, boolean desc, Customer after) {
+        NavigableSet<SortKey> view = views.get(field(sortBy));
+        if (desc) {
+            view = view.descendingSet();
+        }
+        if (after != null) {
+            view = view.tailSet(SortKey.of(after, field(sortBy)), false);
+        }
+        return view;
+    }
+
+    /**
+     * 고객 정보가 정렬키와 같은 위치에 정렬되는지 확인합니다. (색인 순회 중 다른 시점의 고객 정보를 거를 때 사용)
+     * @param key 정렬키
+     * @param customer 고객 정보
+     * @param sortBy 정렬 기준
+     * @return 같은 정렬키면 true
+     */
+    static boolean matches(SortKey key, Customer customer, String sortBy) {
+        return customer != null && key.id() == customer.getId()
+                && Objects.equals(key.key(), CustomerSearchIndex.normalize(sortValue(customer, sortBy)));
+    }
+
+    /**
+     * 정렬 색인과 동일한 순서의 비교자를 반환합니다.
+     * @param sortBy 정렬 기준
+     * @param desc 내림차순 여부
+     * @return 고객 비교자
+     */
+    public static Comparator<Customer> comparator(String sortBy, boolean desc) {
+        String field = field(sortBy);
+        Comparator<Customer> comparator = Comparator.comparing(c -> SortKey.of(c, field));
+        return desc ? comparator.reversed() : comparator;
+    }
+
+    /**
+     * 정렬 기준 필드 값을 반환합니다.
+     * @param customer 고객 정보
+     * @param sortBy 정렬 기준 (알 수 없는 값이면 name)
+     * @return 필드 값
+     */
+    public static String sortValue(Customer customer, String sortBy) {
+        return switch (field(sortBy)) {
+            case "phoneNumber" -> customer.getPhoneNumber();
+            case "email" -> customer.getEmail();
+            case "address" -> customer.getAddress();
+            default -> customer.getName();
+        };
+    }
+
+    // 정렬 기준 정규화 (미입력/알 수 없는 값은 name)
+    private static String field(String sortBy) {
+        return sortBy != null && SORT_FIELDS.contains(sortBy) ? sortBy : "name";
+    }
+
+    /**
+     * 정렬키: 소문자 값(null 우선) + 고객ID
+     */
+    record SortKey(String key, long id) implements Comparable<SortKey> {
+
+        static SortKey of(Customer customer, String field) {
+            return new SortKey(CustomerSearchIndex.normalize(sortValue(customer, field)), customer.getId());
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            if (key != other.key) {
+                if (key == null) return -1;
+                if (other.key == null) return 1;
+                int cmp = key.compareTo(other.key);
+                if (cmp != 0) return cmp;
+            }
+            return Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.ybong.test.address.dao;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * long 키 전용 맵 (고정 크기 청크 배열)
+ * - 고객ID처럼 0부터 촘촘하게 증가하는 키는 키 값을 그대로 청크/슬롯 위치로 사용하여, 조회/저장 시 키 객체를 만들지 않습니다.
+ * - 청크 하나에 CHUNK_SIZE개의 슬롯이 있으며, 청크는 해당 범위의 키가 처음 저장될 때 만듭니다.
+ * - 직접 색인 범위(0 ~ 2^32-1)를 벗어난 키(음수, 매우 큰 값)는 보조 해시맵에 보관합니다.
+ * - 조회는 잠금 없이 동작하며, 같은 키에 대한 저장은 호출 측에서 직렬화해야 합니다. (VersionedCustomerStore의 ID 잠금)
+ * @param <V> 값 타입
+ */
+public class LongChunkedMap<V> {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CHUNKS = 1 << 20;
+    private static final int INITIAL_CHUNKS = 16;
+
+    private volatile AtomicReferenceArray<AtomicReferenceArray<V>> directory = new AtomicReferenceArray<>(INITIAL_CHUNKS);
+    private final ConcurrentHashMap<Long, V> overflow = new ConcurrentHashMap<>();
+    private final Object growLock = new Object();
+
+    /**
+     * 키의 값을 조회합니다. (잠금 없음)
+     * @param key 키
+     * @return 값 (없으면 null)
+     */
+    public V get(long key) {
+        if (!isDirect(key)) {
+            return overflow.get(key);
+        }
+        AtomicReferenceArray<AtomicReferenceArray<V>> chunks = directory;
+        int index = (int) (key >>> CHUNK_BITS);
+        if (index >= chunks.length()) {
+            return null;
+        }
+        AtomicReferenceArray<V> chunk = chunks.get(index);
+        return chunk == null ? null : chunk.get((int) (key & CHUNK_MASK));
+    }
+
+    /**
+     * 키의 값을 저장합니다. (null이면 제거)
+     * @param key 키
+     * @param value 값
+     */
+    public void put(long key, V value) {
+        if (!isDirect(key)) {
+            if (value == null) {
+                overflow.remove(key);
+            } else {
+                overflow.put(key, value);
+            }
+            return;
+        }
+        int index = (int) (key >>> CHUNK_BITS);
+        AtomicReferenceArray<V> chunk = value == null ? existingChunk(index) : chunk(index);
+        if (chunk != null) {
+            chunk.set((int) (key & CHUNK_MASK), value);
+        }
+    }
+
+    /**
+     * 저장된 키와 값을 순회합니다. (직접 색인 범위는 키 오름차순, 이후 보조 맵)
+     * - 순회 중의 변경은 반영될 수도, 반영되지 않을 수도 있습니다.
+     * @param visitor 키와 값을 전달받을 함수
+     */
+    public void forEach(EntryVisitor<V> visitor) {
+        AtomicReferenceArray<AtomicReferenceArray<V>> chunks = directory;
+        for (int index = 0; index < chunks.length(); index++) {
+            AtomicReferenceArray<V> chunk = chunks.get(index);
+            if (chunk == null) {
+                continue;
+            }
+            long base = (long) index << CHUNK_BITS;
+            for (int slot = 0; slot < CHUNK_SIZE; slot++) {
+                V value = chunk.get(slot);
+                if (value != null) {
+                    visitor.visit(base + slot, value);
+                }
+            }
+        }
+        overflow.forEach(visitor::visit);
+    }
+
+    /**
+     * 저장된 값을 순회하는 반복자를 반환합니다. (순서와 일관성은 forEach와 같음)
+     * @return 값 반복자 (마지막으로 반환한 값의 키도 조회 가능)
+     */
+    public KeyedIterator<V> values() {
+        return new ValueIterator();
+    }
+
+    private static boolean isDirect(long key) {
+        return key >= 0 && (key >>> CHUNK_BITS) < MAX_CHUNKS;
+    }
+
+    private AtomicReferenceArray<V> existingChunk(int index) {
+        AtomicReferenceArray<AtomicReferenceArray<V>> chunks = directory;
+        return index < chunks.length() ? chunks.get(index) : null;
+    }
+
+    // 청크가 없으면 만들고, 디렉토리가 작으면 두 배씩 늘림 (청크 생성/디렉토리 교체는 growLock으로 직렬화)
+    private AtomicReferenceArray<V> chunk(int index) {
+        AtomicReferenceArray<V> chunk = existingChunk(index);
+        if (chunk != null) {
+            return chunk;
+        }
+        synchronized (growLock) {
+            AtomicReferenceArray<AtomicReferenceArray<V>> chunks = directory;
+            if (index >= chunks.length()) {
+                int length = chunks.length();
+                while (length <= index) {
+                    length <<= 1;
+                }
+                AtomicReferenceArray<AtomicReferenceArray<V>> grown = new AtomicReferenceArray<>(length);
+                for (int i = 0; i < chunks.length(); i++) {
+                    grown.set(i, chunks.get(i));
+                }
+                directory = grown;
+                chunks = grown;
+            }
+            chunk = chunks.get(index);
+            if (chunk == null) {
+                chunk = new AtomicReferenceArray<>(CHUNK_SIZE);
+                chunks.set(index, chunk);
+            }
+            return chunk;
+        }
+    }
+
+    /**
+     * 키와 값을 전달받는 함수 (키를 객체로 감싸지 않음)
+     * @param <V> 값 타입
+     */
+    @FunctionalInterface
+    public interface EntryVisitor<V> {
+        void visit(long key, V value);
+    }
+
+    /**
+     * 값 반복자 (키를 객체로 감싸지 않고 마지막으로 반환한 값의 키를 조회)
+     * @param <V> 값 타입
+     */
+    public interface KeyedIterator<V> extends Iterator<V> {
+        /**
+         * @return 마지막으로 next()가 반환한 값의 키
+         */
+        long key();
+    }
+
+    /**
+     * 청크 배열을 순서대로 순회한 뒤 보조 맵을 순회
+     */
+    private final class ValueIterator implements KeyedIterator<V> {
+        private final AtomicReferenceArray<AtomicReferenceArray<V>> chunks = directory;
+        private Iterator<Map.Entry<Long, V>> overflowEntries;
+        private int index;
+        private int slot;
+        private V next;
+        private long nextKey;
+        private long key;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && index < chunks.length()) {
+                AtomicReferenceArray<V> chunk = chunks.get(index);
+                if (chunk == null) {
+                    index++;
+                    continue;
+                }
+                nextKey = ((long) index << CHUNK_BITS) + slot;
+                next = chunk.get(slot);
+                if (++slot == CHUNK_SIZE) {
+                    slot = 0;
+                    index++;
+                }
+            }
+            if (next == null) {
+                if (overflowEntries == null) {
+                    overflowEntries = overflow.entrySet().iterator();
+                }
+                if (overflowEntries.hasNext()) {
+                    Map.Entry<Long, V> entry = overflowEntries.next();
+                    nextKey = entry.getKey();
+                    next = entry.getValue();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            V value = next;
+            key = nextKey;
+            next = null;
+            return value;
+        }
+
+        @Override
+        public long key() {
+            return key;
+        }
+    }
+}
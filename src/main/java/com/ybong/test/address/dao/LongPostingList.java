@@ -0,0 +1,312 @@
+package com.ybong.test.address.dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고객ID 포스팅 리스트 (boxing 없는 정수 집합)
+ * - 고객ID를 상위 비트(id >> 16)별 블록으로 나누고, 블록 안의 하위 16비트를 개수가 적으면 정렬된 char 배열로,
+ *   ARRAY_LIMIT개를 넘으면 비트맵(long 1024개, 8KB)으로 보관합니다. (Roaring bitmap과 같은 구성)
+ * - 변경(add/remove)은 호출 측에서 직렬화해야 하며(CustomerSearchIndex: bigram별 ConcurrentHashMap.compute), 조회는 잠금 없이 동작합니다.
+ * - 블록 목록과 배열 블록은 변경할 때 복사본으로 교체하고, 비트맵 블록은 제자리에서 변경하므로
+ *   조회 중의 변경은 반영될 수도, 반영되지 않을 수도 있습니다.
+ */
+public class LongPostingList {
+
+    private static final int BLOCK_BITS = 16;
+    private static final int LOW_MASK = (1 << BLOCK_BITS) - 1;
+    private static final int ARRAY_LIMIT = 4096;                          // 배열 블록의 최대 크기 (넘으면 비트맵으로 전환)
+    private static final int BITMAP_WORDS = (1 << BLOCK_BITS) / Long.SIZE;
+
+    private volatile Block[] blocks = new Block[0];                       // 상위 비트 오름차순
+    private volatile int size;
+
+    /**
+     * 고객ID를 추가합니다.
+     * @param id 고객ID
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(long id) {
+        long high = id >> BLOCK_BITS;
+        int low = (int) id & LOW_MASK;
+        Block[] current = blocks;
+        int index = find(current, high);
+        if (index < 0) {
+            Block[] grown = new Block[current.length + 1];
+            int at = -index - 1;
+            System.arraycopy(current, 0, grown, 0, at);
+            grown[at] = new ArrayBlock(high, new char[]{(char) low});
+            System.arraycopy(current, at, grown, at + 1, current.length - at);
+            blocks = grown;
+        } else if (current[index] instanceof BitmapBlock bitmap) {
+            if (!bitmap.add(low)) {
+                return false;
+            }
+        } else {
+            ArrayBlock array = (ArrayBlock) current[index];
+            int position = Arrays.binarySearch(array.lows, (char) low);
+            if (position >= 0) {
+                return false;
+            }
+            Block next = array.lows.length < ARRAY_LIMIT ? array.with(-position - 1, low) : BitmapBlock.of(array, low);
+            replace(current, index, next);
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * 고객ID를 제거합니다.
+     * @param id 고객ID
+     * @return 제거되었으면 true
+     */
+    public boolean remove(long id) {
+        Block[] current = blocks;
+        int index = find(current, id >> BLOCK_BITS);
+        if (index < 0) {
+            return false;
+        }
+        int low = (int) id & LOW_MASK;
+        if (current[index] instanceof BitmapBlock bitmap) {
+            if (!bitmap.remove(low)) {
+                return false;
+            }
+            if (bitmap.cardinality <= ARRAY_LIMIT / 2) {
+                replace(current, index, bitmap.toArrayBlock());
+            }
+        } else {
+            ArrayBlock array = (ArrayBlock) current[index];
+            int position = Arrays.binarySearch(array.lows, (char) low);
+            if (position < 0) {
+                return false;
+            }
+            if (array.lows.length == 1) {
+                Block[] shrunk = new Block[current.length - 1];
+                System.arraycopy(current, 0, shrunk, 0, index);
+                System.arraycopy(current, index + 1, shrunk, index, shrunk.length - index);
+                blocks = shrunk;
+            } else {
+                replace(current, index, array.without(position));
+            }
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 고객ID가 포함되어 있는지 확인합니다. (잠금 없음)
+     * @param id 고객ID
+     * @return 포함 여부
+     */
+    public boolean contains(long id) {
+        Block[] current = blocks;
+        int index = find(current, id >> BLOCK_BITS);
+        return index >= 0 && current[index].contains((int) id & LOW_MASK);
+    }
+
+    /**
+     * 고객ID 개수를 반환합니다.
+     * @return 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 고객ID를 오름차순 배열로 반환합니다. (잠금 없음)
+     * @return 고객ID 배열
+     */
+    public long[] toArray() {
+        long[] ids = new long[size];
+        int count = 0;
+        for (Block block : blocks) {
+            long base = block.high << BLOCK_BITS;
+            if (block instanceof BitmapBlock bitmap) {
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    long bits = bitmap.words.get(word);
+                    while (bits != 0) {
+                        ids = ensureCapacity(ids, count);
+                        ids[count++] = base | ((long) word << 6) | Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                    }
+                }
+            } else {
+                for (char low : ((ArrayBlock) block).lows) {
+                    ids = ensureCapacity(ids, count);
+                    ids[count++] = base | low;
+                }
+            }
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * 포스팅 리스트의 교집합을 구합니다.
+     * - 가장 짧은 리스트의 고객ID부터 나머지 리스트에 포함되는지 짧은 순으로 확인하며, 결과가 비면 즉시 종료합니다.
+     * @param lists 포스팅 리스트 목록
+     * @return 모든 리스트에 포함된 고객ID (오름차순)
+     */
+    public static long[] intersect(List<LongPostingList> lists) {
+        if (lists.isEmpty()) {
+            return new long[0];
+        }
+        List<LongPostingList> ordered = new ArrayList<>(lists);
+        ordered.sort(Comparator.comparingInt(LongPostingList::size));
+        long[] ids = ordered.get(0).toArray();
+        int count = ids.length;
+        for (int i = 1; i < ordered.size() && count > 0; i++) {
+            LongPostingList list = ordered.get(i);
+            int kept = 0;
+            for (int j = 0; j < count; j++) {
+                if (list.contains(ids[j])) {
+                    ids[kept++] = ids[j];
+                }
+            }
+            count = kept;
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    // 블록 목록의 한 블록을 교체한 복사본으로 바꿈
+    private void replace(Block[] current, int index, Block block) {
+        Block[] copy = current.clone();
+        copy[index] = block;
+        blocks = copy;
+    }
+
+    // 상위 비트가 같은 블록 위치 (없으면 -(삽입 위치) - 1)
+    private static int find(Block[] blocks, long high) {
+        int lo = 0;
+        int hi = blocks.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long key = blocks[mid].high;
+            if (key < high) {
+                lo = mid + 1;
+            } else if (key > high) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    // 조회 중에 추가된 고객ID를 담을 수 있도록 배열 확장
+    private static long[] ensureCapacity(long[] ids, int count) {
+        return count < ids.length ? ids : Arrays.copyOf(ids, Math.max(16, ids.length * 2));
+    }
+
+    /**
+     * 상위 비트가 같은 고객ID 블록
+     */
+    private abstract static class Block {
+        final long high;
+
+        Block(long high) {
+            this.high = high;
+        }
+
+        abstract boolean contains(int low);
+    }
+
+    /**
+     * 정렬된 하위 16비트 배열 블록 (변경하지 않으며, 변경 시 새 블록으로 교체)
+     */
+    private static final class ArrayBlock extends Block {
+        final char[] lows;
+
+        ArrayBlock(long high, char[] lows) {
+            super(high);
+            this.lows = lows;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return Arrays.binarySearch(lows, (char) low) >= 0;
+        }
+
+        ArrayBlock with(int position, int low) {
+            char[] grown = new char[lows.length + 1];
+            System.arraycopy(lows, 0, grown, 0, position);
+            grown[position] = (char) low;
+            System.arraycopy(lows, position, grown, position + 1, lows.length - position);
+            return new ArrayBlock(high, grown);
+        }
+
+        ArrayBlock without(int position) {
+            char[] shrunk = new char[lows.length - 1];
+            System.arraycopy(lows, 0, shrunk, 0, position);
+            System.arraycopy(lows, position + 1, shrunk, position, shrunk.length - position);
+            return new ArrayBlock(high, shrunk);
+        }
+    }
+
+    /**
+     * 비트맵 블록 (제자리에서 변경하며, 조회는 AtomicLongArray로 최신 값을 읽음)
+     */
+    private static final class BitmapBlock extends Block {
+        final AtomicLongArray words = new AtomicLongArray(BITMAP_WORDS);
+        int cardinality;                                                  // 변경하는 쪽에서만 사용
+
+        BitmapBlock(long high) {
+            super(high);
+        }
+
+        static BitmapBlock of(ArrayBlock array, int low) {
+            BitmapBlock bitmap = new BitmapBlock(array.high);
+            for (char value : array.lows) {
+                bitmap.add(value);
+            }
+            bitmap.add(low);
+            return bitmap;
+        }
+
+        @Override
+        boolean contains(int low) {
+            return (words.get(low >>> 6) & (1L << low)) != 0;
+        }
+
+        boolean add(int low) {
+            long word = words.get(low >>> 6);
+            long bit = 1L << low;
+            if ((word & bit) != 0) {
+                return false;
+            }
+            words.set(low >>> 6, word | bit);
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(int low) {
+            long word = words.get(low >>> 6);
+            long bit = 1L << low;
+            if ((word & bit) == 0) {
+                return false;
+            }
+            words.set(low >>> 6, word & ~bit);
+            cardinality--;
+            return true;
+        }
+
+        ArrayBlock toArrayBlock() {
+            char[] lows = new char[cardinality];
+            int count = 0;
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = words.get(word);
+                while (bits != 0) {
+                    lows[count++] = (char) ((word << 6) | Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return new ArrayBlock(high, lows);
+        }
+    }
+}
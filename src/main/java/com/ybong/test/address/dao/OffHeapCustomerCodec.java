@@ -0,0 +1,85 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 힙 밖 고객 레코드 형식
+ * - 고객 정보를 바이트로 직렬화하여 OffHeapMemory 슬롯에 기록하고, 힙에는 슬롯 위치(주소, 세대 번호, 길이)만 보관합니다.
+ * - 레코드 구성: 고객ID(long) + 주소/전화번호/이메일/이름 (각각 UTF-8 길이(int, null이면 -1) + 바이트)
+ * - 저장소가 더 이상 읽히지 않는 버전을 회수할 때 슬롯을 해제하며, 해제된 슬롯은 이후 등록/수정에 재사용됩니다.
+ */
+public class OffHeapCustomerCodec implements CustomerRecordCodec {
+
+    private final OffHeapMemory memory = new OffHeapMemory();
+
+    @Override
+    public Object encode(Customer customer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(customer.getId());
+            writeString(out, customer.getAddress());
+            writeString(out, customer.getPhoneNumber());
+            writeString(out, customer.getEmail());
+            writeString(out, customer.getName());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return memory.write(bytes.toByteArray());
+    }
+
+    @Override
+    public Customer decode(Object record) {
+        byte[] data = memory.read((OffHeapMemory.Slot) record);
+        if (data == null) {
+            return null;
+        }
+        ByteBuffer in = ByteBuffer.wrap(data);
+        return Customer.builder()
+                .id(in.getLong())
+                .address(readString(in))
+                .phoneNumber(readString(in))
+                .email(readString(in))
+                .name(readString(in))
+                .build();
+    }
+
+    @Override
+    public void release(Object record) {
+        memory.free((OffHeapMemory.Slot) record);
+    }
+
+    /**
+     * 레코드가 사용하는 힙 밖 메모리를 반환합니다.
+     * @return 힙 밖 메모리
+     */
+    public OffHeapMemory memory() {
+        return memory;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,175 @@
+package com.ybong.test.address.dao;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 힙 밖(direct ByteBuffer) 레코드 메모리
+ * - 고정 크기 영역(ARENA_SIZE)을 필요할 때마다 할당하고, 영역 안에서 16바이트 단위 슬롯을 잘라 씁니다.
+ * - 해제된 슬롯은 크기(16바이트 단위 개수)별 빈 목록에 모아 같은 크기의 레코드에 재사용합니다. (인접 슬롯 병합 없음)
+ * - 슬롯 앞 8바이트에는 할당마다 새로 발급하는 세대 번호(stamp)를 기록하며, 해제하면 0으로 바꿉니다.
+ *   잠금 없이 읽는 쪽은 읽기 전후의 세대 번호를 비교하여, 읽는 중에 해제/재사용된 슬롯을 감지합니다.
+ * - 할당/해제는 잠금으로 직렬화하고, 읽기는 잠금 없이 동작합니다. 영역은 반환하지 않습니다.
+ */
+public class OffHeapMemory {
+
+    private static final int ARENA_BITS = 24;
+    private static final int ARENA_SIZE = 1 << ARENA_BITS;                  // 영역 하나의 크기 (16MB)
+    private static final int GRANULE = 16;                                 // 슬롯 크기 단위 (세대 번호 정렬 보장)
+    private static final int HEADER = Long.BYTES;                          // 슬롯 앞의 세대 번호
+    private static final long FREE = 0;
+    private static final VarHandle STAMP = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private volatile ByteBuffer[] arenas = new ByteBuffer[0];
+    private final Map<Integer, SlotStack> freeSlots = new HashMap<>();     // 슬롯 크기(단위 개수) -> 빈 슬롯 주소
+    private int top = ARENA_SIZE;                                          // 마지막 영역에서 다음에 잘라낼 위치
+    private long stamps;                                                   // 마지막으로 발급한 세대 번호
+    private long usedBytes;
+
+    /**
+     * 데이터를 담은 슬롯을 할당합니다.
+     * @param data 기록할 데이터
+     * @return 슬롯 위치 (주소와 세대 번호)
+     * @throws IllegalArgumentException 데이터가 영역 하나보다 클 경우
+     */
+    public synchronized Slot write(byte[] data) {
+        int units = units(data.length);
+        if ((long) units * GRANULE > ARENA_SIZE) {
+            throw new IllegalArgumentException("Record too large for off-heap storage: " + data.length + " bytes");
+        }
+        long address = allocate(units);
+        long stamp = ++stamps;
+        ByteBuffer arena = arena(address);
+        int offset = offset(address);
+        // 이전 세대의 읽기가 새 데이터를 유효하다고 보지 않도록 세대 번호를 먼저 비우고 데이터를 씀
+        STAMP.setOpaque(arena, offset, FREE);
+        VarHandle.releaseFence();
+        arena.put(offset + HEADER, data, 0, data.length);
+        STAMP.setRelease(arena, offset, stamp);
+        usedBytes += (long) units * GRANULE;
+        return new Slot(address, stamp, data.length);
+    }
+
+    /**
+     * 슬롯의 데이터를 읽습니다. (잠금 없음)
+     * @param slot 슬롯 위치
+     * @return 데이터 (읽는 중에 슬롯이 해제/재사용되었으면 null)
+     */
+    public byte[] read(Slot slot) {
+        ByteBuffer arena = arena(slot.address());
+        int offset = offset(slot.address());
+        if ((long) STAMP.getAcquire(arena, offset) != slot.stamp()) {
+            return null;
+        }
+        byte[] data = new byte[slot.length()];
+        arena.get(offset + HEADER, data, 0, data.length);
+        VarHandle.acquireFence();
+        return (long) STAMP.getOpaque(arena, offset) == slot.stamp() ? data : null;
+    }
+
+    /**
+     * 슬롯을 해제하여 같은 크기의 할당에 재사용합니다.
+     * - 이미 해제된 슬롯(세대 번호가 다른 슬롯)은 무시합니다.
+     * @param slot 슬롯 위치
+     */
+    public synchronized void free(Slot slot) {
+        ByteBuffer arena = arena(slot.address());
+        int offset = offset(slot.address());
+        if ((long) STAMP.getOpaque(arena, offset) != slot.stamp()) {
+            return;
+        }
+        STAMP.setRelease(arena, offset, FREE);
+        int units = units(slot.length());
+        freeSlots.computeIfAbsent(units, key -> new SlotStack()).push(slot.address());
+        usedBytes -= (long) units * GRANULE;
+    }
+
+    /**
+     * 사용 중인 슬롯의 전체 크기를 반환합니다.
+     * @return 바이트 수
+     */
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * 할당된 영역의 전체 크기를 반환합니다.
+     * @return 바이트 수
+     */
+    public long reservedBytes() {
+        return (long) arenas.length * ARENA_SIZE;
+    }
+
+    // 같은 크기의 빈 슬롯이 있으면 재사용하고, 없으면 마지막 영역에서 잘라냄 (남은 공간이 부족하면 새 영역)
+    private long allocate(int units) {
+        SlotStack stack = freeSlots.get(units);
+        if (stack != null && !stack.isEmpty()) {
+            return stack.pop();
+        }
+        int size = units * GRANULE;
+        if (top + size > ARENA_SIZE) {
+            int rest = (ARENA_SIZE - top) / GRANULE;
+            if (rest > 0) {
+                // 영역 끝의 남은 공간은 그 크기의 빈 슬롯으로 돌려둠
+                freeSlots.computeIfAbsent(rest, key -> new SlotStack()).push(address(arenas.length - 1, top));
+            }
+            ByteBuffer[] grown = Arrays.copyOf(arenas, arenas.length + 1);
+            grown[grown.length - 1] = ByteBuffer.allocateDirect(ARENA_SIZE).order(ByteOrder.nativeOrder());
+            arenas = grown;
+            top = 0;
+        }
+        long address = address(arenas.length - 1, top);
+        top += size;
+        return address;
+    }
+
+    private ByteBuffer arena(long address) {
+        return arenas[(int) (address >>> ARENA_BITS)];
+    }
+
+    private static int offset(long address) {
+        return (int) (address & (ARENA_SIZE - 1));
+    }
+
+    private static long address(int arena, int offset) {
+        return ((long) arena << ARENA_BITS) | offset;
+    }
+
+    private static int units(int length) {
+        return (HEADER + length + GRANULE - 1) / GRANULE;
+    }
+
+    /**
+     * 슬롯 위치 (주소, 할당 시 세대 번호, 데이터 길이)
+     */
+    public record Slot(long address, long stamp, int length) {
+    }
+
+    /**
+     * 빈 슬롯 주소 스택 (long 배열, 잠금은 OffHeapMemory에서 처리)
+     */
+    private static final class SlotStack {
+        private long[] addresses = new long[16];
+        private int size;
+
+        void push(long address) {
+            if (size == addresses.length) {
+                addresses = Arrays.copyOf(addresses, size * 2);
+            }
+            addresses[size++] = address;
+        }
+
+        long pop() {
+            return addresses[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
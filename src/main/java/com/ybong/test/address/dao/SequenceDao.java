@@ -2,13 +2,16 @@ package com.ybong.test.address.dao;
 
 import com.ybong.test.address.exception.BizValidationException;
 import com.ybong.test.address.model.Sequence;
+import com.ybong.test.address.model.SequenceBlock;
 import com.ybong.test.address.util.MessageUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -16,6 +19,8 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * 시퀀스 데이터 접근 객체
  * - 메모리 내 시퀀스 데이터 관리
+ * - 시퀀스 값은 AtomicLong 기반으로 잠금 없이 발번
+ * - 대량 등록용 구간 예약과 스레드별 ID 캐시 지원
  */
 @RequiredArgsConstructor
 @Setter
@@ -24,6 +29,15 @@ import java.util.concurrent.ConcurrentHashMap;
 public class SequenceDao {
     private final Map<String, Sequence> sequenceMap = new ConcurrentHashMap<>();
     private final MessageUtil messageUtil;
+    // 스레드별로 예약해 둔 시퀀스 구간 (데이터명 -> 구간)
+    private final ThreadLocal<Map<String, SequenceBlock>> localBlocks = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * 스레드별 캐시 크기. 1 이하이면 캐시 없이 매번 공용 카운터에서 발번합니다.
+     * 캐시 사용 시 종료 전 사용되지 않은 예약분만큼 ID에 공백이 생길 수 있습니다.
+     */
+    @Value("${addressbook.sequence.cache-size:1}")
+    private int cacheSize = 1;
 
     /**
      * 새로운 시퀀스를 저장합니다.
@@ -49,24 +63,60 @@ public class SequenceDao {
     /**
      * 데이터명의 최대 시퀀스 값을 조회합니다.
      * @param dataName 조회할 데이터명
-     * @return 최대 시퀀스 값
+     * @return 최대 시퀀스 값 (예약된 구간 포함)
      */
-    public Long getMaxSequence(String dataName) {
+    public long getMaxSequence(String dataName) {
         return sequenceMap.get(dataName).getMaxSequence();
     }
 
     /**
      * 데이터명의 다음 시퀀스 값을 조회하고 증가시킵니다.
+     * - 캐시 크기가 설정된 경우 스레드별로 예약해 둔 구간에서 꺼내 공용 카운터 경합을 줄입니다.
      * @param dataName 조회할 데이터명
      * @return 다음 시퀀스 값
      */
-    public Long getNextSequence(String dataName) {
-        this.getSequence(dataName).setMaxSequence(this.getMaxSequence(dataName) + 1);
-        return sequenceMap.get(dataName).getMaxSequence();
+    public long getNextSequence(String dataName) {
+        if (cacheSize <= 1) {
+            return this.getSequence(dataName).next();
+        }
+        Map<String, SequenceBlock> blocks = localBlocks.get();
+        SequenceBlock block = blocks.get(dataName);
+        if (block == null || !block.hasNext()) {
+            block = allocateBlock(dataName, cacheSize);
+            blocks.put(dataName, block);
+        }
+        return block.next();
+    }
+
+    /**
+     * 연속된 시퀀스 구간을 한 번에 예약합니다. (대량 등록용)
+     * @param dataName 조회할 데이터명
+     * @param size 예약할 개수
+     * @return 예약된 시퀀스 구간
+     * @throws BizValidationException 예약 개수가 유효하지 않을 경우
+     */
+    public SequenceBlock allocateBlock(String dataName, int size) {
+        if (size < 1) {
+            throw new BizValidationException(messageUtil.getMessage("validation.default"));
+        }
+        return new SequenceBlock(this.getSequence(dataName).reserve(size), size);
+    }
+
+    /**
+     * 최대 시퀀스 값을 주어진 값 이상으로 올립니다. (변경 로그 복구 시 이미 발번된 ID 재사용 방지)
+     * @param dataName 데이터명
+     * @param value 최소 최대 시퀀스 값
+     */
+    public void advanceTo(String dataName, long value) {
+        Sequence sequence = this.getSequence(dataName);
+        if (sequence != null) {
+            sequence.advanceTo(value);
+        }
     }
 
     /**
      * 시퀀스 데이터를 CSV 형식의 문자열 목록으로 변환합니다.
+     * - 스레드 캐시로 예약된 구간까지 포함한 값을 기록하므로 재기동 후 ID가 중복되지 않습니다.
      * @return CSV 형식의 문자열 목록
      */
     public List<String> toCsvLines() {
@@ -0,0 +1,434 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 고객 정보 다중 버전 저장소 (MVCC)
+ * - 고객ID별로 최신 버전에서 이전 버전으로 이어지는 버전 체인을 long 키 전용 맵(LongChunkedMap) 하나에 보관합니다.
+ * - 변경은 ID 단위 잠금 안에서 새 버전 번호를 발급해 체인 앞에 붙이고, 잠금 밖에서 완료를 기록합니다.
+ *   앞선 번호가 모두 완료된 버전까지를 공개 버전으로 올리며, 늦게 끝난 쓰기가 뒤따르는 완료분까지 함께 공개합니다.
+ * - 최신 조회는 잠금 없이 체인의 맨 앞 값을 읽고, 스냅샷은 공개 버전 기준으로 닫을 때까지 일관되게 읽습니다.
+ * - 열린 스냅샷 중 가장 오래된 버전보다 이전 버전은 ID 잠금 안에서 체인에서 끊어 레코드를 회수하고, 삭제 표식(tombstone)은 모아서 정리합니다.
+ */
+public class VersionedCustomerStore {
+
+    // 회수 대상(삭제 표식, 남겨둔 이전 버전)이 이 값과 고객 수 중 큰 값을 넘으면 전체 정리
+    private static final int SWEEP_THRESHOLD = 1024;
+    // 완료 기록 창 크기 (공개 버전보다 이만큼 앞선 쓰기는 공개가 따라올 때까지 대기)
+    private static final int PUBLISH_WINDOW = 1 << 12;
+    private static final int WINDOW_MASK = PUBLISH_WINDOW - 1;
+
+    // ID 잠금 수 (고객ID를 나눈 나머지로 잠금을 고르며, 연속된 ID는 서로 다른 잠금을 사용)
+    private static final int LOCK_STRIPES = 1024;
+
+    private final LongChunkedMap<Version> heads = new LongChunkedMap<>();                 // 고객ID -> 최신 버전
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final AtomicLong clock = new AtomicLong();                                    // 마지막으로 발급한 버전 번호
+    private final AtomicReference<Published> published = new AtomicReference<>(new Published(0, 0)); // 공개 버전과 그 시점의 고객 수
+    private final AtomicLongArray completed = new AtomicLongArray(PUBLISH_WINDOW);        // 완료된 버전 번호 (번호 % 창 크기 위치)
+    private final int[] deltas = new int[PUBLISH_WINDOW];                                 // 완료된 버전의 고객 수 증감
+    private final AtomicInteger size = new AtomicInteger();                              // 최신 고객 수
+    private final AtomicLong horizon = new AtomicLong();                                  // 새 스냅샷이 열릴 수 있는 최소 버전
+    private final ConcurrentSkipListMap<Long, Integer> readers = new ConcurrentSkipListMap<>(); // 열린 스냅샷 버전 -> 개수
+    private final AtomicInteger garbage = new AtomicInteger();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    private final Map<Long, Customer> view = new LatestView();
+    private final CustomerRecordCodec codec;
+
+    public VersionedCustomerStore() {
+        this(CustomerRecordCodec.OBJECT);
+    }
+
+    /**
+     * @param codec 버전에 보관할 고객 레코드 형식
+     */
+    public VersionedCustomerStore(CustomerRecordCodec codec) {
+        this.codec = codec;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 고객ID의 값을 원자적으로 변경합니다.
+     * - 함수는 ID 단위 잠금(고객ID별 분할 잠금) 안에서 현재 값(없으면 null)을 받아 새 값을 반환하며, null을 반환하면 삭제입니다.
+     * - 현재 값이 없는데 null을 반환하면 변경하지 않습니다. 함수나 레코드 변환(encode)에서 예외가 발생하면 변경 없이 그대로 전파됩니다.
+     * - 반환 이후의 조회와 새로 여는 스냅샷에서는 변경이 보입니다.
+     * @param id 고객ID
+     * @param function 새 값을 만드는 함수
+     * @return 변경 전 값 (없으면 null)
+     */
+    public Customer compute(long id, UnaryOperator<Customer> function) {
+        Customer current;
+        Version version;
+        synchronized (lockFor(id)) {
+            Version head = heads.get(id);
+            current = head == null ? null : decode(head);
+            Customer next = function.apply(current);
+            if (current == null && next == null) {
+                return null;
+            }
+            // 레코드를 먼저 만든 뒤 번호를 발급 (인코딩 실패 시 완료되지 않는 번호가 남아 공개 버전이 멈추지 않도록)
+            Object record = next == null ? null : codec.encode(next);
+            version = new Version(clock.incrementAndGet(), record, head);
+            try {
+                heads.put(id, version);
+            } catch (RuntimeException | Error e) {
+                // 발급한 번호는 변경 없음으로 완료 처리
+                if (record != null) {
+                    codec.release(record);
+                }
+                complete(version.commitVersion, 0);
+                throw e;
+            }
+        }
+        int delta = (version.record == null ? 0 : 1) - (current == null ? 0 : 1);
+        size.addAndGet(delta);
+        complete(version.commitVersion, delta);
+        trim(id, version);
+        return current;
+    }
+
+    /**
+     * 고객ID의 최신 값을 조회합니다. (잠금 없음)
+     * @param id 고객ID
+     * @return 고객 정보 (없으면 null)
+     */
+    public Customer get(long id) {
+        return resolve(id, heads.get(id), Long.MAX_VALUE);
+    }
+
+    /**
+     * 저장할 고객 정보를 저장소에 보관되는 형태로 맞춥니다.
+     * - 압축 레코드 형식이면 사전에 등록된 문자열을 공유하는 고객 객체를 반환하여, 색인이 원본 문자열을 붙잡지 않도록 합니다.
+     * @param customer 고객 정보
+     * @return 보관 형태의 고객 정보 (객체 그대로 보관하면 같은 객체)
+     */
+    public Customer canonicalize(Customer customer) {
+        return codec.canonicalize(customer);
+    }
+
+    /**
+     * 현재 고객 수를 반환합니다. (O(1))
+     * @return 고객 수
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 최신 값을 읽는 읽기 전용 맵 뷰를 반환합니다.
+     * - 순회는 잠금 없이 진행되며 순회 중의 변경은 반영될 수도, 반영되지 않을 수도 있습니다. (일관된 순회는 snapshot 사용)
+     * @return 고객ID -> 고객 정보 뷰
+     */
+    public Map<Long, Customer> asMap() {
+        return view;
+    }
+
+    /**
+     * 현재 시점의 스냅샷을 엽니다.
+     * - 열기 전에 끝난 변경이 모두 공개될 때까지 잠시 기다린 뒤, 공개 버전을 기준으로 합니다.
+     * - 스냅샷은 닫을 때까지 연 시점의 고객 목록을 일관되게 보여주며, 쓰기를 막지 않습니다.
+     * - 열린 스냅샷이 있는 동안 이전 버전이 회수되지 않으므로 반드시 닫아야 합니다. (try-with-resources)
+     * @return 스냅샷
+     */
+    public Snapshot snapshot() {
+        long issued = clock.get();
+        awaitPublished(issued);
+        while (true) {
+            Published at = published.get();
+            readers.merge(at.commitVersion, 1, Integer::sum);
+            if (horizon.get() <= at.commitVersion) {
+                return new Snapshot(at);
+            }
+            // 등록 전에 정리 기준이 앞서 나감: 등록을 취소하고 최신 버전으로 다시 시도
+            release(at.commitVersion);
+        }
+    }
+
+    // 완료를 기록하고 앞선 번호가 모두 완료된 버전까지 공개 버전을 올림
+    private void complete(long commitVersion, int delta) {
+        awaitPublished(commitVersion - PUBLISH_WINDOW); // 창을 한 바퀴 돈 위치의 이전 버전이 공개될 때까지 대기 (드묾)
+        int slot = (int) (commitVersion & WINDOW_MASK);
+        deltas[slot] = delta;
+        completed.set(slot, commitVersion);
+
+        Published last = published.get();
+        while (true) {
+            long next = last.commitVersion + 1;
+            int nextSlot = (int) (next & WINDOW_MASK);
+            if (completed.get(nextSlot) != next) {
+                return; // 앞선 쓰기가 완료되면 그 쓰기가 이어서 공개함
+            }
+            Published updated = new Published(next, last.size + deltas[nextSlot]);
+            last = published.compareAndSet(last, updated) ? updated : published.get();
+        }
+    }
+
+    private void awaitPublished(long commitVersion) {
+        for (int spins = 0; published.get().commitVersion < commitVersion; spins++) {
+            if (spins < 64) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    // 열린 스냅샷이 읽을 수 있는 가장 오래된 버전 (이후 열리는 스냅샷은 이 값 이상을 읽도록 정리 기준을 먼저 올림)
+    private long oldestReadable() {
+        long latest = published.get().commitVersion;
+        horizon.accumulateAndGet(latest, Math::max);
+        Map.Entry<Long, Integer> oldest = readers.firstEntry();
+        return oldest == null ? latest : Math.min(latest, oldest.getKey());
+    }
+
+    private void release(long commitVersion) {
+        readers.computeIfPresent(commitVersion, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    // 새 버전 공개 후 더 이상 읽힐 수 없는 이전 버전을 체인에서 끊음
+    private void trim(long id, Version version) {
+        Version kept = visibleAt(version, oldestReadable());
+        if (kept != null && kept.previous != null) {
+            synchronized (lockFor(id)) {
+                cut(kept);
+            }
+        }
+        if (kept != version || version.record == null) {
+            int pending = garbage.incrementAndGet();
+            if (pending >= Math.max(SWEEP_THRESHOLD, size()) && sweepLock.tryLock()) {
+                try {
+                    sweep();
+                } finally {
+                    sweepLock.unlock();
+                }
+            }
+        }
+    }
+
+    // 전체 체인을 정리하고, 모든 스냅샷에서 삭제된 것으로 보이는 고객ID를 맵에서 제거
+    // (열린 스냅샷 때문에 남은 버전은 다음 정리 대상이 다시 쌓일 때 회수)
+    private void sweep() {
+        garbage.set(0);
+        long low = oldestReadable();
+        heads.forEach((id, head) -> {
+            if (!isGarbage(head)) {
+                return;
+            }
+            synchronized (lockFor(id)) {
+                Version current = heads.get(id);
+                Version kept = current == null ? null : visibleAt(current, low);
+                if (kept == null) {
+                    return;
+                }
+                cut(kept);
+                if (kept == current && current.record == null) {
+                    heads.put(id, null);
+                }
+            }
+        });
+    }
+
+    private Object lockFor(long id) {
+        return locks[(int) (id ^ (id >>> 32)) & (LOCK_STRIPES - 1)];
+    }
+
+    // 버전 이후의 이전 버전을 체인에서 끊고 레코드를 회수 (ID 잠금 안에서 호출하며, 끊은 링크를 비워 두 번 회수하지 않음)
+    private void cut(Version kept) {
+        Version version = kept.previous;
+        kept.previous = null;
+        while (version != null) {
+            if (version.record != null) {
+                codec.release(version.record);
+            }
+            Version previous = version.previous;
+            version.previous = null;
+            version = previous;
+        }
+    }
+
+    // 이전 버전이 남아 있거나 삭제 표식인 체인
+    private static boolean isGarbage(Version head) {
+        return head.record == null || head.previous != null;
+    }
+
+    // 버전의 레코드로 고객 객체 생성 (삭제 표식이면 null)
+    private Customer decode(Version version) {
+        return version.record == null ? null : codec.decode(version.record);
+    }
+
+    // 주어진 버전 번호 기준으로 고객 객체 생성 (잠금 없이 읽는 중 레코드가 회수되었으면 새 체인에서 다시 찾음)
+    private Customer resolve(long id, Version chain, long commitVersion) {
+        Version version = visibleAt(chain, commitVersion);
+        while (version != null && version.record != null) {
+            Customer customer = codec.decode(version.record);
+            if (customer != null) {
+                return customer;
+            }
+            version = visibleAt(heads.get(id), commitVersion);
+        }
+        return null;
+    }
+
+    // 체인에서 주어진 버전 번호 이하인 가장 최신 버전 (없으면 null)
+    private static Version visibleAt(Version version, long commitVersion) {
+        while (version != null && version.commitVersion > commitVersion) {
+            version = version.previous;
+        }
+        return version;
+    }
+
+    /**
+     * 고객 정보의 한 버전 (record가 null이면 삭제 표식)
+     */
+    private static final class Version {
+        private final long commitVersion;
+        private final Object record;
+        private volatile Version previous;
+
+        Version(long commitVersion, Object record, Version previous) {
+            this.commitVersion = commitVersion;
+            this.record = record;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * 공개된 버전 번호와 그 시점의 고객 수 (함께 읽도록 하나의 객체로 교체)
+     */
+    private record Published(long commitVersion, int size) {
+    }
+
+    /**
+     * 특정 버전 시점의 고객 목록
+     * - 순회/조회는 스냅샷을 연 뒤의 변경과 무관하게 같은 결과를 반환합니다.
+     */
+    public final class Snapshot extends AbstractCollection<Customer> implements AutoCloseable {
+        private final long commitVersion;
+        private final int size;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Snapshot(Published at) {
+            this.commitVersion = at.commitVersion;
+            this.size = at.size;
+        }
+
+        /**
+         * 스냅샷 시점의 고객 정보를 조회합니다.
+         * @param id 고객ID
+         * @return 고객 정보 (없으면 null)
+         */
+        public Customer get(long id) {
+            return resolve(id, heads.get(id), commitVersion);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Customer> iterator() {
+            return new ResolvingIterator(heads.values(), commitVersion);
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(commitVersion);
+            }
+        }
+    }
+
+    /**
+     * 체인을 주어진 버전 기준으로 해석하며 고객 정보를 순회 (삭제 표식과 이후에 추가된 고객은 건너뜀)
+     */
+    private final class ResolvingIterator implements Iterator<Customer> {
+        private final LongChunkedMap.KeyedIterator<Version> chains;
+        private final long commitVersion;
+        private Customer next;
+
+        ResolvingIterator(LongChunkedMap.KeyedIterator<Version> chains, long commitVersion) {
+            this.chains = chains;
+            this.commitVersion = commitVersion;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && chains.hasNext()) {
+                Version chain = chains.next();
+                next = resolve(chains.key(), chain, commitVersion);
+            }
+            return next != null;
+        }
+
+        @Override
+        public Customer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Customer customer = next;
+            next = null;
+            return customer;
+        }
+    }
+
+    /**
+     * 최신 값을 읽는 읽기 전용 맵 뷰
+     */
+    private final class LatestView extends AbstractMap<Long, Customer> {
+
+        @Override
+        public Customer get(Object key) {
+            return key instanceof Long id ? VersionedCustomerStore.this.get(id) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return VersionedCustomerStore.this.size();
+        }
+
+        @Override
+        public Set<Entry<Long, Customer>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Long, Customer>> iterator() {
+                    Iterator<Customer> customers = new ResolvingIterator(heads.values(), Long.MAX_VALUE);
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return customers.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Long, Customer> next() {
+                            Customer customer = customers.next();
+                            return new SimpleImmutableEntry<>(customer.getId(), customer);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return VersionedCustomerStore.this.size();
+                }
+            };
+        }
+    }
+}
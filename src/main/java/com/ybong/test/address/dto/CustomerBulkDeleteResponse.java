@@ -0,0 +1,30 @@
+package com.ybong.test.address.dto;
+
+import com.ybong.test.address.model.CustomerDeleteResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 고객 일괄 삭제 응답 DTO
+ * - 요청/삭제/실패 건수와 고객ID별 결과(요청 순서) 포함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "고객 일괄 삭제 responseDto")
+public class CustomerBulkDeleteResponse {
+    @Schema(description = "요청 건수")
+    private int requestedCount;
+
+    @Schema(description = "삭제된 고객 수")
+    private int deletedCount;
+
+    @Schema(description = "삭제하지 못한 건수")
+    private int failedCount;
+
+    @Schema(description = "고객ID별 결과 (요청 순서)")
+    private List<CustomerDeleteResult> results;
+}
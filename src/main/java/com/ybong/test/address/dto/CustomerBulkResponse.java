@@ -0,0 +1,30 @@
+package com.ybong.test.address.dto;
+
+import com.ybong.test.address.model.CustomerBulkResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 고객 대량 등록 응답 DTO
+ * - 요청/등록/실패 건수와 항목별 결과(요청 순서) 포함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "고객 대량 등록 responseDto")
+public class CustomerBulkResponse {
+    @Schema(description = "요청 건수")
+    private int requestedCount;
+
+    @Schema(description = "등록된 고객 수")
+    private int createdCount;
+
+    @Schema(description = "등록하지 못한 고객 수")
+    private int failedCount;
+
+    @Schema(description = "항목별 결과 (요청 순서)")
+    private List<CustomerBulkResult> results;
+}
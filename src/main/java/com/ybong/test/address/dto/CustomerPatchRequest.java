@@ -0,0 +1,40 @@
+package com.ybong.test.address.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import lombok.*;
+
+import static com.ybong.test.address.util.ValidationPatterns.PATTERN_NOT_BLANK;
+import static com.ybong.test.address.util.ValidationPatterns.PATTERN_PHONE;
+
+/**
+ * 고객 정보 부분 수정 요청 DTO
+ * - 입력한 필드만 수정하며, 생략(null)한 필드는 기존 값을 유지
+ * - 입력한 필드는 등록과 같은 규칙으로 검증 (빈 값 불가)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "고객 정보 부분 수정 RequestDTO")
+public class CustomerPatchRequest {
+
+    @Schema(description = "이름", example = "홍길동")
+    @Pattern(regexp = PATTERN_NOT_BLANK, message = "{validation.required.name}")
+    private String name;
+
+    @Schema(description = "이메일", example = "gildong@test.com")
+    @Email(message = "{validation.invalid.email}")
+    @Pattern(regexp = PATTERN_NOT_BLANK, message = "{validation.required.email}")
+    private String email;
+
+    @Schema(description = "전화번호", example = "010-1234-1234")
+    @Pattern(regexp = PATTERN_PHONE, message = "{validation.invalid.phone}")
+    private String phoneNumber;
+
+    @Schema(description = "주소", example = "서울특별시 마포구")
+    @Pattern(regexp = PATTERN_NOT_BLANK, message = "{validation.required.address}")
+    private String address;
+}
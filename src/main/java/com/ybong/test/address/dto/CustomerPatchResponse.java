@@ -0,0 +1,34 @@
+package com.ybong.test.address.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerUpdate;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * 고객 정보 부분 수정 응답 DTO
+ * - 기본: 수정 전/후 고객 정보
+ * - diff 요청 시: 바뀐 필드의 수정 전/후 값만 (before/after 생략)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "고객 정보 부분 수정 responseDto")
+public class CustomerPatchResponse {
+    @Schema(description = "고객 ID")
+    private Long id;
+
+    @Schema(description = "수정 전 고객 정보")
+    private Customer before;
+
+    @Schema(description = "수정 후 고객 정보")
+    private Customer after;
+
+    @Schema(description = "바뀐 필드별 수정 전/후 값 (diff 요청 시)")
+    private Map<String, CustomerUpdate.FieldChange> changes;
+}
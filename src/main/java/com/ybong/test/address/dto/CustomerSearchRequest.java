@@ -1,6 +1,8 @@
 package com.ybong.test.address.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
 
@@ -49,4 +51,31 @@ public class CustomerSearchRequest {
             message = "{validation.invalid.sortDir}"
     )
     private String sortDir = "asc";
+
+    @Schema(
+            description = "페이지 번호 (0부터 시작), page/size/after 모두 미입력 시 전체 조회",
+            example = "0"
+    )
+    @Min(value = 0, message = "{validation.invalid.page}")
+    private Integer page;
+
+    @Schema(
+            description = "페이지 크기 (1~1000), 페이징 시 미입력하면 50",
+            example = "50"
+    )
+    @Min(value = 1, message = "{validation.invalid.size}")
+    @Max(value = 1000, message = "{validation.invalid.size}")
+    private Integer size;
+
+    @Schema(
+            description = "커서: 이전 응답의 nextCursor 값, 입력 시 page 대신 커서 이후부터 조회 (정렬 조건은 이전 요청과 동일해야 함)"
+    )
+    private String after;
+
+    @Schema(
+            description = "스트리밍 조회 여부: true이면 NDJSON(application/x-ndjson)으로 한 줄에 한 고객씩 전송하며 페이징은 무시 "
+                    + "(Accept: application/x-ndjson 헤더로도 선택 가능)",
+            example = "false"
+    )
+    private Boolean stream;
 }
@@ -1,5 +1,6 @@
 package com.ybong.test.address.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ybong.test.address.model.Customer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -10,6 +11,7 @@ import java.util.List;
  * 고객 검색 응답 DTO
  * - 고객 검색 결과를 담는 응답 데이터 객체
  * - 검색된 고객 수와 고객 목록 포함
+ * - 페이징 조회 시 페이지 정보와 다음 페이지 커서 포함
  */
 @Data
 @NoArgsConstructor
@@ -22,4 +24,16 @@ public class CustomerSearchResponse {
 
     @Schema(description = "검색된 고객 목록")
     private List<Customer> customers;
+
+    @Schema(description = "페이지 번호 (커서 조회 시 미포함)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer page;
+
+    @Schema(description = "페이지 크기")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer size;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 미포함)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
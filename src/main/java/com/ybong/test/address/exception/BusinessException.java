@@ -0,0 +1,16 @@
+package com.ybong.test.address.exception;
+
+/**
+ * 비즈니스 예외 공통 부모 클래스
+ * - 중복, 미존재, 변경 없음, 유효성 검증 실패처럼 클라이언트 요청으로 예상되는 오류(4xx)에 사용
+ * - 호출 위치가 아닌 메시지로 원인을 알 수 있으므로 스택 트레이스를 채우지 않습니다. (생성 비용 절감)
+ * - 원인 추적이 필요하면 -Daddressbook.error.stack-trace=true로 실행하여 스택 트레이스를 채웁니다.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    private static final boolean STACK_TRACE = Boolean.getBoolean("addressbook.error.stack-trace");
+
+    protected BusinessException(String message) {
+        super(message, null, false, STACK_TRACE);
+    }
+}
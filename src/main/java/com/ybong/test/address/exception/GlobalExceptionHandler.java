@@ -1,26 +1,45 @@
 package com.ybong.test.address.exception;
 
+import com.ybong.test.address.common.AddressBookMetrics;
 import com.ybong.test.address.common.ErrorCode;
 import com.ybong.test.address.dto.ErrorResponse;
 import com.ybong.test.address.util.MessageUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 전역 예외 처리 핸들러
+ * - 예상되는 클라이언트 오류(4xx)는 스택 트레이스 없이 한 줄로, clientErrorSampleRate 비율만 기록합니다.
+ * - 서버 오류(5xx)는 항상 스택 트레이스와 함께 ERROR로 기록합니다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private final MessageUtil messageUtil;
+    private final AddressBookMetrics metrics;
+
+    /** 기록할 클라이언트 오류(4xx) 비율 (0.0 ~ 1.0) */
+    @Setter
+    @Value("${addressbook.error-log.client-sample-rate:1.0}")
+    private double clientErrorSampleRate = 1.0;
 
     @ExceptionHandler(BizValidationException.class)
     public ResponseEntity<?> handleBizValidation(BizValidationException e) {
-        log.error(e.getMessage(), e);
+        metrics.countError("validation");
+        logClientError(HttpStatus.BAD_REQUEST, "validation", e.getMessage());
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(ErrorCode.VALIDATION_ERROR, e.getMessage()));
@@ -28,7 +47,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ConflictException.class)
     public ResponseEntity<?> handleConflict(ConflictException e) {
-        log.error(e.getMessage(), e);
+        metrics.countError("conflict");
+        logClientError(HttpStatus.CONFLICT, "conflict", e.getMessage());
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
                 .body(new ErrorResponse(ErrorCode.CONFLICT_ERROR, e.getMessage()));
@@ -37,7 +57,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<?> handleNotFound(NotFoundException e) {
-        log.error(e.getMessage(), e);
+        metrics.countError("not_found");
+        logClientError(HttpStatus.NOT_FOUND, "not_found", e.getMessage());
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .body(new ErrorResponse(ErrorCode.NOT_FOUND_ERROR, e.getMessage()));
@@ -45,7 +66,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(NoChangeException.class)
     public ResponseEntity<?> handleNoChangeException(NoChangeException e) {
-        log.error(e.getMessage(), e);
+        metrics.countError("no_change");
+        logClientError(HttpStatus.CONFLICT, "no_change", e.getMessage());
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
                 .body(new ErrorResponse(ErrorCode.CONFLICT_ERROR, e.getMessage()));
@@ -53,7 +75,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidationException(MethodArgumentNotValidException e) {
-        log.error(e.getMessage(), e);
+        metrics.countError("validation");
+        logClientError(HttpStatus.BAD_REQUEST, "validation", "fields=" + fieldNames(e));
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(ErrorCode.VALIDATION_ERROR, messageUtil.getMessage("validation.default")));
@@ -61,9 +84,30 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAll(Exception e) {
+        metrics.countError("server");
         log.error(e.getMessage(), e);
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new ErrorResponse(ErrorCode.SERVER_ERROR, messageUtil.getMessage("error.default")));
     }
+
+    /**
+     * 클라이언트 오류를 스택 트레이스 없이 한 줄로 기록합니다. (샘플링)
+     * @param status 응답 상태
+     * @param type 오류 유형
+     * @param message 오류 메시지
+     */
+    private void logClientError(HttpStatus status, String type, String message) {
+        if (log.isWarnEnabled()
+                && (clientErrorSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < clientErrorSampleRate)) {
+            log.warn("status={} error={} message={}", status.value(), type, message);
+        }
+    }
+
+    private static String fieldNames(MethodArgumentNotValidException e) {
+        return e.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getField)
+                .distinct()
+                .collect(Collectors.joining(","));
+    }
 }
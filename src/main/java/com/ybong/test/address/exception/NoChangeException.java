@@ -5,7 +5,7 @@ package com.ybong.test.address.exception;
  * 409: CONFLICT
  */
 
-public class NoChangeException extends RuntimeException {
+public class NoChangeException extends BusinessException {
     public NoChangeException(String message) {
         super(message);
     }
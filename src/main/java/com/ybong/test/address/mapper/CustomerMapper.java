@@ -2,6 +2,10 @@ package com.ybong.test.address.mapper;
 
 import com.ybong.test.address.dto.*;
 import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerBulkResult;
+import com.ybong.test.address.model.CustomerDeleteResult;
+import com.ybong.test.address.model.CustomerPage;
+import com.ybong.test.address.model.CustomerUpdate;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -18,10 +22,16 @@ public interface CustomerMapper {
     @Mapping(target = "phoneNumber", qualifiedByName = "sanitizePhoneNumber")
     Customer toCustomer(CustomerRequest dto);
 
-    default CustomerSearchResponse toCustomerSearchResponse(List<Customer> customerList) {
+    @Mapping(target = "phoneNumber", qualifiedByName = "sanitizePhoneNumber")
+    Customer toCustomer(CustomerPatchRequest dto);
+
+    default CustomerSearchResponse toCustomerSearchResponse(CustomerPage customerPage) {
         return CustomerSearchResponse.builder()
-                .count(customerList.size())
-                .customers(customerList)
+                .count(customerPage.getCount())
+                .customers(customerPage.getCustomers())
+                .page(customerPage.getPage())
+                .size(customerPage.getSize())
+                .nextCursor(customerPage.getNextCursor())
                 .build();
     }
 
@@ -32,6 +42,13 @@ public interface CustomerMapper {
                 .after(updatedCustomer.get("after"))
                 .build();
     }
+    default CustomerPatchResponse toCustomerPatchResponse(CustomerUpdate update, boolean diffOnly) {
+        CustomerPatchResponse.CustomerPatchResponseBuilder builder = CustomerPatchResponse.builder()
+                .id(update.getAfter().getId());
+        return diffOnly
+                ? builder.changes(update.changes()).build()
+                : builder.before(update.getBefore()).after(update.getAfter()).build();
+    }
     default CustomerDeleteResponse toCustomerDeleteResponse(List<Customer> deletedCustomers) {
         return CustomerDeleteResponse.builder()
                 .deletedCount(deletedCustomers.size())
@@ -39,8 +56,28 @@ public interface CustomerMapper {
                 .build();
     };
 
+    default CustomerBulkResponse toCustomerBulkResponse(List<CustomerBulkResult> results) {
+        int created = (int) results.stream().filter(r -> r.getStatus() == CustomerBulkResult.Status.CREATED).count();
+        return CustomerBulkResponse.builder()
+                .requestedCount(results.size())
+                .createdCount(created)
+                .failedCount(results.size() - created)
+                .results(results)
+                .build();
+    }
+
+    default CustomerBulkDeleteResponse toCustomerBulkDeleteResponse(List<CustomerDeleteResult> results) {
+        int deleted = (int) results.stream().filter(r -> r.getStatus() == CustomerDeleteResult.Status.DELETED).count();
+        return CustomerBulkDeleteResponse.builder()
+                .requestedCount(results.size())
+                .deletedCount(deleted)
+                .failedCount(results.size() - deleted)
+                .results(results)
+                .build();
+    }
+
     @Named("sanitizePhoneNumber")
     static String sanitizePhoneNumber(String phoneNumber) {
-        return phoneNumber.replaceAll("-", "");
+        return phoneNumber == null ? null : phoneNumber.replaceAll("-", "");
     }
 }
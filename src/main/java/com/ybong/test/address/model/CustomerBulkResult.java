@@ -0,0 +1,33 @@
+package com.ybong.test.address.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 등록 항목별 결과 모델
+ * - 요청 목록에서의 위치(index)와 처리 결과
+ * - 등록 성공 시 customer, 실패 시 message를 채움
+ */
+@Getter
+@RequiredArgsConstructor
+public class CustomerBulkResult {
+    private final int index;            // 요청 목록에서의 위치 (0부터)
+    private final Status status;
+    private final Customer customer;    // 등록된 고객 정보 (실패 시 null)
+    private final String message;       // 실패 사유 (성공 시 null)
+
+    public static CustomerBulkResult created(int index, Customer customer) {
+        return new CustomerBulkResult(index, Status.CREATED, customer, null);
+    }
+
+    public static CustomerBulkResult failed(int index, Status status, String message) {
+        return new CustomerBulkResult(index, status, null, message);
+    }
+
+    /**
+     * 항목 처리 결과 (CREATED: 등록, INVALID: 입력값 오류, CONFLICT: 중복)
+     */
+    public enum Status {
+        CREATED, INVALID, CONFLICT
+    }
+}
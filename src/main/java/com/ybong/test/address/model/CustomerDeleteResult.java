@@ -0,0 +1,23 @@
+package com.ybong.test.address.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 삭제 고객ID별 결과 모델
+ * - 대량 삭제 시 응답 크기를 줄이기 위해 삭제된 고객 정보 대신 ID와 처리 결과만 담음
+ */
+@Getter
+@RequiredArgsConstructor
+public class CustomerDeleteResult {
+    private final Long id;
+    private final Status status;
+    private final String message;       // 실패 사유 (성공 시 null)
+
+    /**
+     * 고객ID 처리 결과 (DELETED: 삭제, NOT_FOUND: 고객 없음, DUPLICATE: 요청 안에서 중복된 ID, INVALID: ID 누락)
+     */
+    public enum Status {
+        DELETED, NOT_FOUND, DUPLICATE, INVALID
+    }
+}
@@ -0,0 +1,21 @@
+package com.ybong.test.address.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 고객 검색 결과 페이지 모델
+ * - 전체 검색 건수와 요청한 페이지의 고객 목록
+ * - 페이징 미사용 시 page/size/nextCursor는 null
+ */
+@Getter
+@Builder
+public class CustomerPage {
+    private final int count;                // 전체 검색 건수
+    private final List<Customer> customers; // 페이지 고객 목록
+    private final Integer page;
+    private final Integer size;
+    private final String nextCursor;        // 다음 페이지 커서 (마지막 페이지면 null)
+}
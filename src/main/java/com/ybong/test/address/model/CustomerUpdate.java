@@ -0,0 +1,47 @@
+package com.ybong.test.address.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 고객 정보 수정 결과 모델
+ * - 수정 전/후 고객 정보와 바뀐 필드만 추린 변경 내역
+ */
+@Getter
+@RequiredArgsConstructor
+public class CustomerUpdate {
+    private final Customer before;
+    private final Customer after;
+
+    /**
+     * 바뀐 필드의 수정 전/후 값을 반환합니다.
+     * @return 필드명 -> 변경 내역 (이름, 주소, 전화번호, 이메일 순)
+     */
+    public Map<String, FieldChange> changes() {
+        Map<String, FieldChange> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "name", Customer::getName);
+        putIfChanged(changes, "address", Customer::getAddress);
+        putIfChanged(changes, "phoneNumber", Customer::getPhoneNumber);
+        putIfChanged(changes, "email", Customer::getEmail);
+        return changes;
+    }
+
+    private void putIfChanged(Map<String, FieldChange> changes, String field, Function<Customer, String> getter) {
+        String oldValue = getter.apply(before);
+        String newValue = getter.apply(after);
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.put(field, new FieldChange(oldValue, newValue));
+        }
+    }
+
+    /**
+     * 필드 변경 내역 (수정 전 값, 수정 후 값)
+     */
+    public record FieldChange(String before, String after) {
+    }
+}
@@ -1,16 +1,59 @@
 package com.ybong.test.address.model;
 
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 시퀀스 정보 모델
  * - ID 시퀀스 관리를 위한 엔티티
  * - 데이터명과 최대 시퀀스 값 포함
+ * - 최대 시퀀스 값은 AtomicLong으로 관리하여 잠금 없이 발번
  */
-@Data
-@Builder
+@Getter
+@ToString
 public class Sequence {
-    private String data;
-    private Long maxSequence;
+    private final String data;
+    private final AtomicLong maxSequence;
+
+    @Builder
+    public Sequence(String data, Long maxSequence) {
+        this.data = data;
+        this.maxSequence = new AtomicLong(maxSequence == null ? 0L : maxSequence);
+    }
+
+    /**
+     * 현재까지 발번(예약 포함)된 최대 시퀀스 값을 반환합니다.
+     * @return 최대 시퀀스 값
+     */
+    public long getMaxSequence() {
+        return maxSequence.get();
+    }
+
+    /**
+     * 다음 시퀀스 값을 발번합니다.
+     * @return 발번된 시퀀스 값
+     */
+    public long next() {
+        return maxSequence.incrementAndGet();
+    }
+
+    /**
+     * 연속된 시퀀스 구간을 한 번에 예약합니다.
+     * @param size 예약할 개수
+     * @return 예약된 구간의 첫 시퀀스 값
+     */
+    public long reserve(int size) {
+        return maxSequence.getAndAdd(size) + 1;
+    }
+
+    /**
+     * 최대 시퀀스 값을 주어진 값 이상으로 끌어올립니다. (이미 더 크면 유지)
+     * @param value 최소 보장 값
+     */
+    public void advanceTo(long value) {
+        maxSequence.accumulateAndGet(value, Math::max);
+    }
 }
@@ -0,0 +1,48 @@
+package com.ybong.test.address.model;
+
+import lombok.Getter;
+
+/**
+ * 시퀀스 예약 구간 모델
+ * - SequenceDao에서 한 번에 예약한 연속 ID 구간 [first, last]
+ * - 대량 등록이나 스레드별 캐시에서 순서대로 꺼내 쓰며, 한 스레드 안에서만 사용
+ */
+@Getter
+public class SequenceBlock {
+    private final long first;
+    private final long last;
+    private long cursor;
+
+    public SequenceBlock(long first, int size) {
+        this.first = first;
+        this.last = first + size - 1;
+        this.cursor = first;
+    }
+
+    /**
+     * 구간에 남은 시퀀스가 있는지 확인합니다.
+     * @return 남은 시퀀스 존재 여부
+     */
+    public boolean hasNext() {
+        return cursor <= last;
+    }
+
+    /**
+     * 구간에서 다음 시퀀스를 꺼냅니다.
+     * @return 시퀀스 값
+     */
+    public long next() {
+        if (cursor > last) {
+            throw new IllegalStateException("sequence block exhausted: " + first + "~" + last);
+        }
+        return cursor++;
+    }
+
+    /**
+     * 구간의 크기를 반환합니다.
+     * @return 구간 크기
+     */
+    public int size() {
+        return (int) (last - first + 1);
+    }
+}
@@ -1,21 +1,38 @@
 package com.ybong.test.address.service;
 
+import com.ybong.test.address.common.AddressBookMetrics;
 import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.dao.CustomerSearchIndex;
+import com.ybong.test.address.dao.CustomerSortIndex;
 import com.ybong.test.address.dao.SequenceDao;
+import com.ybong.test.address.dao.VersionedCustomerStore;
+import com.ybong.test.address.dto.CustomerPatchRequest;
 import com.ybong.test.address.dto.CustomerRequest;
+import com.ybong.test.address.exception.BizValidationException;
 import com.ybong.test.address.exception.ConflictException;
 import com.ybong.test.address.exception.NoChangeException;
 import com.ybong.test.address.exception.NotFoundException;
 import com.ybong.test.address.mapper.CustomerMapper;
 import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerBulkResult;
+import com.ybong.test.address.model.CustomerDeleteResult;
+import com.ybong.test.address.model.CustomerPage;
+import com.ybong.test.address.model.CustomerUpdate;
+import com.ybong.test.address.model.SequenceBlock;
 import com.ybong.test.address.util.MessageUtil;
+import com.ybong.test.address.util.ValidationUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /**
  * 고객 주소록 서비스
@@ -28,11 +45,30 @@ import java.util.stream.Collectors;
 public class AddressBookService {
 
     private static final String ADDRESS = "address";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    // 후보 수 x 비율이 전체 건수 이상이면 정렬 색인 순회가 힙 선택보다 유리하다고 판단
+    private static final int ORDERED_WALK_RATIO = 4;
+    // 대량 등록/삭제 시 이 건수 이상이면 항목 검증을 병렬로 처리
+    private static final int PARALLEL_VALIDATION_THRESHOLD = 256;
 
     private final AddressBookDao addressBook;
     private final MessageUtil messageUtil;
     private final SequenceDao sequenceDao;
     private final CustomerMapper customerMapper;
+    private final ValidationUtil validationUtil;
+    private final AddressBookMetrics metrics;
+
+    /**
+     * 대량 등록 1회 최대 건수
+     */
+    @Value("${addressbook.bulk.max-size:1000}")
+    private int bulkMaxSize = 1000;
+
+    /**
+     * 일괄 삭제 1회 최대 건수
+     */
+    @Value("${addressbook.bulk.delete-max-size:100000}")
+    private int bulkDeleteMaxSize = 100000;
 
     /**
      * 새로운 고객 정보를 등록합니다.
@@ -40,75 +76,304 @@ public class AddressBookService {
      * @return 등록된 고객 정보
      * @throws ConflictException 중복된 고객 정보가 존재할 경우
      */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
     public Customer addCustomer(CustomerRequest dto) {
         Customer customer = customerMapper.toCustomer(dto);
         customer.setId(sequenceDao.getNextSequence(ADDRESS));
-        validateAllConflict(customer);
-        return addressBook.save(customer);
+        // 중복 검증과 저장을 DAO에서 원자적으로 처리 (고유키 선점)
+        return addressBook.insert(customer);
+    }
+
+    /**
+     * 여러 고객 정보를 한 번에 등록합니다.
+     * - 항목별 유효성 검증과 변환은 병렬로 처리하고, 전화번호/이메일 중복은 요청 안의 항목끼리와 저장된 고객을 한 번의 순회로 확인합니다.
+     * - 등록할 항목 수만큼 ID 구간을 한 번에 예약하며, 등록은 DAO에서 한 번에 반영합니다. (변경 로그 후처리 1회)
+     * - 일부 항목이 실패해도 나머지는 등록하며, 결과는 요청 순서대로 항목별로 반환합니다.
+     * @param dtos 등록할 고객 정보 목록
+     * @return 항목별 등록 결과 (요청 순서)
+     * @throws BizValidationException 요청 건수가 없거나 최대 건수를 넘을 경우
+     */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
+    public List<CustomerBulkResult> addCustomers(List<CustomerRequest> dtos) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > bulkMaxSize) {
+            throw new BizValidationException(messageUtil.getMessage("validation.invalid.bulk.size"));
+        }
+        int n = dtos.size();
+        CustomerBulkResult[] results = new CustomerBulkResult[n];
+        Customer[] customers = new Customer[n];
+
+        // 1. 항목별 유효성 검증 및 변환 (건수가 많으면 병렬)
+        IntStream indexes = IntStream.range(0, n);
+        if (n >= PARALLEL_VALIDATION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            String error = validationUtil.firstViolation(dtos.get(i));
+            if (error == null) {
+                customers[i] = customerMapper.toCustomer(dtos.get(i));
+            } else {
+                results[i] = CustomerBulkResult.failed(i, CustomerBulkResult.Status.INVALID, error);
+            }
+        });
+
+        // 2. 중복 확인: 저장된 고객, 앞선 요청 항목 순으로 확인 (먼저 나온 항목이 키를 가짐)
+        Map<String, Integer> phones = new HashMap<>(n * 2);
+        Map<String, Integer> emails = new HashMap<>(n * 2);
+        List<Integer> accepted = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Customer customer = customers[i];
+            if (customer == null) {
+                continue;
+            }
+            String phone = AddressBookDao.phoneKey(customer.getPhoneNumber());
+            String email = AddressBookDao.emailKey(customer.getEmail());
+            String conflict = null;
+            if (addressBook.findByPhoneNumber(phone).isPresent() || phones.putIfAbsent(phone, i) != null) {
+                conflict = "validation.conflict.phone";
+            } else if (addressBook.findByEmail(email).isPresent() || emails.putIfAbsent(email, i) != null) {
+                phones.remove(phone, i);
+                conflict = "validation.conflict.email";
+            }
+            if (conflict != null) {
+                results[i] = CustomerBulkResult.failed(i, CustomerBulkResult.Status.CONFLICT, messageUtil.getMessage(conflict));
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // 3. ID 구간 예약 후 등록 (확인 이후 다른 요청이 같은 키를 먼저 등록하면 해당 항목만 중복 처리)
+        if (!accepted.isEmpty()) {
+            SequenceBlock block = sequenceDao.allocateBlock(ADDRESS, accepted.size());
+            List<Customer> inserting = new ArrayList<>(accepted.size());
+            for (int i : accepted) {
+                customers[i].setId(block.next());
+                inserting.add(customers[i]);
+            }
+            List<ConflictException> conflicts = addressBook.insertAll(inserting);
+            for (int k = 0; k < accepted.size(); k++) {
+                int i = accepted.get(k);
+                ConflictException conflict = conflicts.get(k);
+                results[i] = conflict == null
+                        ? CustomerBulkResult.created(i, customers[i])
+                        : CustomerBulkResult.failed(i, CustomerBulkResult.Status.CONFLICT, conflict.getMessage());
+            }
+        }
+        return Arrays.asList(results);
     }
 
     /**
-     * 고객 정보를 검색합니다.
+     * 고객 정보를 검색합니다. (페이징 없이 전체 목록)
      * @param filter 필터
      * @param keyword 검색 키워드
      * @param sortBy 정렬 기준
      * @param sortDir 정렬 방향
      * @return 검색된 고객 목록
      */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
     public List<Customer> searchCustomers(
             String filter, String keyword, String sortBy, String sortDir
     ) {
-        // 전체 리스트 가져오기
-        List<Customer> all = new ArrayList<>(addressBook.getAddressBook().values());
-
-        // 1. 필터/검색
-        List<Customer> customerList = all.stream()
-                .filter(c -> {
-                    if (StringUtils.isBlank(keyword)) return true; // 검색어 없으면 전체
-                    if (StringUtils.isBlank(filter)) {
-                        // 모든 필드에서 검색 (부분일치)
-                        return containsIgnoreCase(c.getName(), keyword)
-                                || containsIgnoreCase(c.getAddress(), keyword)
-                                || containsIgnoreCase(c.getPhoneNumber(), keyword)
-                                || containsIgnoreCase(c.getEmail(), keyword);
-                    }
-                    return switch (filter) {
-                        case "name" -> containsIgnoreCase(c.getName(), keyword);
-                        case "address" -> containsIgnoreCase(c.getAddress(), keyword);
-                        case "phoneNumber" -> containsIgnoreCase(c.getPhoneNumber(), keyword);
-                        case "email" -> containsIgnoreCase(c.getEmail(), keyword);
-                        default -> true;
-                    };
-                })
-                .collect(Collectors.toList());
-
-        // 2. 정렬
-        Comparator<Customer> comparator = switch (sortBy) {
-            case "phoneNumber" ->
-                    Comparator.comparing(Customer::getPhoneNumber, Comparator.nullsFirst(String::compareToIgnoreCase));
-            case "email" ->
-                    Comparator.comparing(Customer::getEmail, Comparator.nullsFirst(String::compareToIgnoreCase));
-            case "address" ->
-                    Comparator.comparing(Customer::getAddress, Comparator.nullsFirst(String::compareToIgnoreCase));
-            default -> Comparator.comparing(Customer::getName, Comparator.nullsFirst(String::compareToIgnoreCase));
-        };
-        if ("desc".equalsIgnoreCase(sortDir)) {
-            comparator = comparator.reversed();
-        }
-        customerList.sort(comparator);
-
-        // 3. 매핑
-        return customerList;
-    }
-
-    // 문자열 부분일치(대소문자 무시)
-    private boolean containsIgnoreCase(String value, String keyword) {
-        if (value == null || keyword == null) return false;
-        return value.toLowerCase().contains(keyword.toLowerCase());
+        return searchCustomerPage(filter, keyword, sortBy, sortDir, null, null, null).getCustomers();
+    }
+
+    /**
+     * 고객 정보를 검색하여 요청한 페이지만 반환합니다.
+     * - 검색어가 없거나 후보가 많으면 DAO 정렬 색인을 순서대로 순회하여 정렬 비용 없이 선택합니다.
+     * - 후보가 적으면 크기 k(= offset + size)의 힙으로 상위 k건만 선택합니다. (O(n log k))
+     * - 전체 검색 건수(count)는 일치 건수를 세기만 하고 목록으로 만들지 않습니다.
+     * - after(커서)가 주어지면 page 대신 커서 이후의 size건을 반환합니다.
+     * - 요청 시작 시점의 스냅샷을 기준으로 하여, 검색 중 발생한 변경은 결과와 건수에 섞이지 않습니다.
+     * @param filter 필터
+     * @param keyword 검색 키워드
+     * @param sortBy 정렬 기준
+     * @param sortDir 정렬 방향
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param after 이전 페이지의 nextCursor
+     * @return 검색 결과 페이지
+     * @throws BizValidationException 검색 필드 또는 커서 값이 올바르지 않을 경우
+     */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
+    public CustomerPage searchCustomerPage(
+            String filter, String keyword, String sortBy, String sortDir,
+            Integer page, Integer size, String after
+    ) {
+        // 검색 필드를 먼저 확인하고, 검색어는 요청당 한 번만 소문자로 변환
+        String field = searchField(filter);
+        String lowerKeyword = StringUtils.isBlank(keyword) ? null : CustomerSearchIndex.normalize(keyword);
+        boolean desc = "desc".equalsIgnoreCase(sortDir);
+        boolean paging = page != null || size != null || StringUtils.isNotBlank(after);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        Customer cursor = StringUtils.isBlank(after) ? null : decodeCursor(after, sortBy);
+        int pageNo = cursor != null || page == null ? 0 : page;
+        SearchRange range = paging
+                ? new SearchRange(cursor, (int) Math.min((long) pageNo * pageSize, Integer.MAX_VALUE - pageSize), pageSize)
+                : new SearchRange(null, 0, Integer.MAX_VALUE);
+
+        PageSlice slice;
+        try (VersionedCustomerStore.Snapshot snapshot = addressBook.openSnapshot()) {
+            // 1. 검색 대상: 검색어가 있으면 n-gram 색인으로 후보를 좁힘
+            int total = snapshot.size();
+            Collection<Customer> candidates = lowerKeyword == null ? null : addressBook.findCandidates(snapshot, field, lowerKeyword);
+
+            // 2. 선택: 검색어가 없거나 후보가 많으면 정렬 색인 순회, 적으면 힙 선택
+            if (candidates == null) {
+                // 검색어 없음: 커서 위치부터 순회하고 페이지가 차면 중단 (전체 건수는 저장 건수)
+                PageSlice walked = walkOrdered(addressBook.findAllSorted(snapshot, sortBy, desc, cursor), c -> true,
+                        new SearchRange(null, range.offset(), range.limit()), sortBy, desc, true);
+                slice = new PageSlice(total, walked.customers(), walked.hasNext());
+            } else if ((long) candidates.size() * ORDERED_WALK_RATIO >= total) {
+                slice = walkOrdered(addressBook.findAllSorted(snapshot, sortBy, desc, null), c -> CustomerSearchIndex.matches(c, field, lowerKeyword),
+                        range, sortBy, desc, false);
+            } else {
+                slice = selectTopK(candidates, c -> CustomerSearchIndex.matches(c, field, lowerKeyword), range, sortBy, desc);
+            }
+        }
+
+        List<Customer> customerList = slice.customers();
+        metrics.recordSearchResults(slice.count());
+        return CustomerPage.builder()
+                .count(slice.count())
+                .customers(customerList)
+                .page(paging && cursor == null ? pageNo : null)
+                .size(paging ? pageSize : null)
+                .nextCursor(paging && slice.hasNext() ? encodeCursor(customerList.get(customerList.size() - 1), sortBy) : null)
+                .build();
+    }
+
+    /**
+     * 검색 조건에 맞는 고객을 정렬 순서대로 하나씩 전달합니다. (스트리밍 응답용)
+     * - 정렬 색인을 순회하며 일치하는 고객을 바로 전달하므로 요청당 메모리 사용량이 일정합니다.
+     * - 전달하는 동안 스냅샷을 열어 두어, 시작한 뒤에 등록/수정된 값은 전달하지 않습니다.
+     * @param filter 필터
+     * @param keyword 검색 키워드
+     * @param sortBy 정렬 기준
+     * @param sortDir 정렬 방향
+     * @param consumer 고객을 전달받을 함수
+     * @return 전달한 고객 수
+     * @throws BizValidationException 검색 필드가 올바르지 않을 경우
+     */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
+    public int streamCustomers(
+            String filter, String keyword, String sortBy, String sortDir, Consumer<Customer> consumer
+    ) {
+        String field = searchField(filter);
+        String lowerKeyword = StringUtils.isBlank(keyword) ? null : CustomerSearchIndex.normalize(keyword);
+        int count = 0;
+        try (VersionedCustomerStore.Snapshot snapshot = addressBook.openSnapshot()) {
+            for (Customer c : addressBook.findAllSorted(snapshot, sortBy, "desc".equalsIgnoreCase(sortDir), null)) {
+                if (CustomerSearchIndex.matches(c, field, lowerKeyword)) {
+                    consumer.accept(c);
+                    count++;
+                }
+            }
+        }
+        metrics.recordSearchResults(count);
+        return count;
+    }
+
+    // 검색 구간: 커서(이 고객 이후), 건너뛸 건수, 최대 건수
+    private record SearchRange(Customer cursor, int offset, int limit) {
+    }
+
+    // 선택 결과: 전체 일치 건수, 선택된 고객 목록, 다음 페이지 존재 여부
+    private record PageSlice(int count, List<Customer> customers, boolean hasNext) {
+    }
+
+    // 정렬 순서로 순회하며 구간을 선택 (stopWhenFull이면 페이지가 차는 즉시 중단하며, 이때 건수는 순회한 만큼만 셈)
+    private PageSlice walkOrdered(Iterable<Customer> ordered, Predicate<Customer> match, SearchRange range,
+                                  String sortBy, boolean desc, boolean stopWhenFull) {
+        Comparator<Customer> comparator = CustomerSortIndex.comparator(sortBy, desc);
+        List<Customer> customerList = new ArrayList<>(Math.min(range.limit(), 1024));
+        int count = 0;
+        int afterCursor = 0;
+        boolean hasNext = false;
+        for (Customer c : ordered) {
+            if (!match.test(c)) continue;
+            count++;
+            if (range.cursor() != null && comparator.compare(c, range.cursor()) <= 0) continue;
+            afterCursor++;
+            if (afterCursor <= range.offset()) continue;
+            if (customerList.size() < range.limit()) {
+                customerList.add(c);
+            } else {
+                hasNext = true;
+                if (stopWhenFull) break;
+            }
+        }
+        return new PageSlice(count, customerList, hasNext);
+    }
+
+    // 크기 k(= offset + limit)의 힙으로 상위 k건을 선택한 뒤 구간만 잘라냄
+    private PageSlice selectTopK(Collection<Customer> candidates, Predicate<Customer> match, SearchRange range,
+                                 String sortBy, boolean desc) {
+        Comparator<Customer> comparator = CustomerSortIndex.comparator(sortBy, desc);
+        int k = (int) Math.min((long) range.offset() + range.limit(), Integer.MAX_VALUE);
+        PriorityQueue<Customer> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, comparator.reversed());
+        int count = 0;
+        int afterCursor = 0;
+        for (Customer c : candidates) {
+            if (!match.test(c)) continue;
+            count++;
+            if (range.cursor() != null && comparator.compare(c, range.cursor()) <= 0) continue;
+            afterCursor++;
+            if (heap.size() < k) {
+                heap.add(c);
+            } else if (comparator.compare(c, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(c);
+            }
+        }
+
+        List<Customer> top = new ArrayList<>(heap);
+        top.sort(comparator);
+        List<Customer> customerList = range.offset() >= top.size()
+                ? new ArrayList<>()
+                : new ArrayList<>(top.subList(range.offset(), top.size()));
+        return new PageSlice(count, customerList, afterCursor > range.offset() + customerList.size());
+    }
+
+    // 커서 생성: "ID:정렬값"을 URL-safe Base64로 인코딩
+    private String encodeCursor(Customer last, String sortBy) {
+        String value = CustomerSortIndex.sortValue(last, sortBy);
+        String raw = last.getId() + ":" + (value == null ? "" : value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 해석: 정렬 비교에 필요한 ID와 정렬값만 채운 고객 객체로 변환
+    private Customer decodeCursor(String after, String sortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            Long id = Long.parseLong(raw.substring(0, sep));
+            String value = raw.substring(sep + 1);
+            Customer.CustomerBuilder builder = Customer.builder().id(id);
+            switch (sortBy == null ? "" : sortBy) {
+                case "phoneNumber" -> builder.phoneNumber(value);
+                case "email" -> builder.email(value);
+                case "address" -> builder.address(value);
+                default -> builder.name(value);
+            }
+            return builder.build();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BizValidationException(messageUtil.getMessage("validation.invalid.cursor"));
+        }
+    }
+
+    // 검색 필드 확인 (빈 값이면 전체 필드 null, 색인하지 않는 필드면 BizValidationException)
+    private String searchField(String filter) {
+        if (StringUtils.isBlank(filter)) {
+            return null;
+        }
+        if (!CustomerSearchIndex.isSearchField(filter)) {
+            throw new BizValidationException(messageUtil.getMessage("validation.invalid.filter"));
+        }
+        return filter;
     }
 
     /**
      * 고객 정보를 수정합니다.
+     * - 고유키(전화번호/이메일) 중복 확인과 반영은 DAO에서 ID 단위 잠금 안에 원자적으로 처리합니다.
      * @param id 수정할 고객 ID
      * @param dto 수정할 고객 정보
      * @return 수정된 고객 정보
@@ -116,26 +381,42 @@ public class AddressBookService {
      * @throws ConflictException 중복된 고객 정보가 존재할 경우
      * @throws NoChangeException 변경된 정보가 없을 경우
      */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
     public Map<String, Customer> updateCustomer(Long id, CustomerRequest dto) {
         Customer customerBefore = validateKeyExist(id);
-        validateUkConflict(id, dto);
         Customer customerAfter = customerMapper.toCustomer(dto);
         customerAfter.setId(id);
         if (customerBefore.equals(customerAfter)) {
             throw new NoChangeException(messageUtil.getMessage("customer.nochange"));
         }
-        addressBook.save(customerAfter);
+        CustomerUpdate update = addressBook.update(customerAfter);
         Map<String, Customer> updatedCustomer = new HashMap<>();
-        updatedCustomer.put("before", customerBefore);
+        updatedCustomer.put("before", update.getBefore());
         updatedCustomer.put("after", customerAfter);
         return updatedCustomer;
     }
 
+    /**
+     * 고객 정보의 일부 필드만 수정합니다.
+     * - 입력한 필드만 반영하며, 바뀐 고유키만 중복을 확인하고 바뀐 필드의 색인만 갱신합니다. (DAO에서 원자적으로 처리)
+     * @param id 수정할 고객 ID
+     * @param dto 수정할 필드 (생략한 필드는 유지)
+     * @return 수정 전/후 고객 정보
+     * @throws NotFoundException 고객 정보가 존재하지 않을 경우
+     * @throws ConflictException 중복된 고객 정보가 존재할 경우
+     * @throws NoChangeException 변경된 정보가 없을 경우
+     */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
+    public CustomerUpdate patchCustomer(Long id, CustomerPatchRequest dto) {
+        return addressBook.patch(id, customerMapper.toCustomer(dto));
+    }
+
     /**
      * 고객 정보를 삭제합니다.
      * @param ids 삭제할 고객 ID 목록
      * @return 삭제된 고객 정보 목록
      */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
     public List<Customer> deleteCustomers(List<Long> ids) {
         List<Customer> deletedCustomers = new ArrayList<>();
         for (Long id : ids) {
@@ -145,6 +426,65 @@ public class AddressBookService {
         return deletedCustomers;
     }
 
+    /**
+     * 여러 고객 정보를 한 번에 삭제하고 고객ID별 결과를 반환합니다.
+     * - 먼저 모든 ID를 검증(누락, 요청 안의 중복, 존재 여부)한 뒤 삭제 가능한 고객만 DAO에서 한 번에 삭제합니다.
+     * - 없는 ID가 있어도 나머지는 삭제하며, 존재 여부 확인은 건수가 많으면 병렬로 처리합니다.
+     * - 확인 이후 다른 요청이 먼저 삭제한 고객은 NOT_FOUND로 반환합니다.
+     * @param ids 삭제할 고객 ID 목록
+     * @return 고객ID별 결과 (요청 순서)
+     * @throws BizValidationException 요청 건수가 없거나 최대 건수를 넘을 경우
+     */
+    @Timed(value = AddressBookMetrics.SERVICE_TIMER, histogram = true)
+    public List<CustomerDeleteResult> deleteCustomersInBatch(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > bulkDeleteMaxSize) {
+            throw new BizValidationException(messageUtil.getMessage("validation.invalid.bulk.size"));
+        }
+        int n = ids.size();
+        CustomerDeleteResult[] results = new CustomerDeleteResult[n];
+
+        // 1. 누락/중복 확인 (먼저 나온 ID만 처리)
+        Set<Long> seen = new HashSet<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results[i] = new CustomerDeleteResult(null, CustomerDeleteResult.Status.INVALID,
+                        messageUtil.getMessage("validation.required.id"));
+            } else if (!seen.add(id)) {
+                results[i] = new CustomerDeleteResult(id, CustomerDeleteResult.Status.DUPLICATE, null);
+            }
+        }
+
+        // 2. 존재 여부 확인 (건수가 많으면 병렬)
+        IntStream indexes = IntStream.range(0, n);
+        if (n >= PARALLEL_VALIDATION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        String notFound = messageUtil.getMessage("customer.notfound");
+        indexes.filter(i -> results[i] == null && addressBook.findById(ids.get(i)).isEmpty())
+                .forEach(i -> results[i] = new CustomerDeleteResult(ids.get(i), CustomerDeleteResult.Status.NOT_FOUND, notFound));
+
+        // 3. 확인을 통과한 고객만 한 번에 삭제
+        List<Integer> accepted = new ArrayList<>(n);
+        List<Long> deleting = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            if (results[i] == null) {
+                accepted.add(i);
+                deleting.add(ids.get(i));
+            }
+        }
+        if (!deleting.isEmpty()) {
+            List<Customer> deleted = addressBook.deleteAll(deleting);
+            for (int k = 0; k < accepted.size(); k++) {
+                int i = accepted.get(k);
+                results[i] = deleted.get(k) != null
+                        ? new CustomerDeleteResult(ids.get(i), CustomerDeleteResult.Status.DELETED, null)
+                        : new CustomerDeleteResult(ids.get(i), CustomerDeleteResult.Status.NOT_FOUND, notFound);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
     public void validateAllConflict(Customer dto) {
         if (addressBook.findById(dto.getId()).isPresent()) {
             throw new ConflictException(messageUtil.getMessage("validation.conflict.id"));
@@ -162,17 +502,4 @@ public class AddressBookService {
                 .orElseThrow(() -> new NotFoundException(messageUtil.getMessage("customer.notfound") + " - " + id));
     }
 
-    public void validateUkConflict(Long id, CustomerRequest dto) {
-        if (addressBook.findByPhoneNumber(dto.getPhoneNumber())
-                .filter(customer -> !id.equals(customer.getId()))
-                .isPresent()) {
-            throw new ConflictException(messageUtil.getMessage("validation.conflict.phone"));
-        }
-        if (addressBook.findByEmail(dto.getEmail())
-                .filter(customer -> !id.equals(customer.getId()))
-                .isPresent()) {
-            throw new ConflictException(messageUtil.getMessage("validation.conflict.email"));
-        }
-    }
-
 }
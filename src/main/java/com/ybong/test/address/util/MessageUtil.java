@@ -4,15 +4,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * 메시지 유틸리티 클래스
  * - 공통 메시지 처리를 위한 유틸리티
  * - 메시지 프로퍼티 파일에서 메시지를 조회
+ * - 조회한 메시지는 키별로 보관하여 예외 메시지처럼 자주 쓰는 메시지를 다시 조회하지 않습니다.
  */
 @Component
 @RequiredArgsConstructor
 public class MessageUtil {
     private final MessageSource messageSource;
+    private final Map<String, String> messages = new ConcurrentHashMap<>();
 
     /**
      * 메시지 키에 해당하는 메시지를 조회합니다.
@@ -20,7 +26,12 @@ public class MessageUtil {
      * @return 조회된 메시지
      */
     public String getMessage(String code) {
-        return messageSource.getMessage(code, null, java.util.Locale.getDefault());
+        String message = messages.get(code);
+        if (message == null) {
+            message = messageSource.getMessage(code, null, Locale.getDefault());
+            messages.putIfAbsent(code, message);
+        }
+        return message;
     }
 
 }
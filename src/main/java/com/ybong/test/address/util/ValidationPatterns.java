@@ -6,6 +6,8 @@ package com.ybong.test.address.util;
  */
 public class ValidationPatterns {
     public static final String PATTERN_PHONE = "^(010)(\\d{7,8}|-\\d{3,4}-\\d{4})$";
+    // 공백만으로 된 값 불가 (부분 수정처럼 생략 가능한 필드에 사용, null은 검증하지 않음)
+    public static final String PATTERN_NOT_BLANK = "(?s).*\\S.*";
 
     private ValidationPatterns() {}
 }
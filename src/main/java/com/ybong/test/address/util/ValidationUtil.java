@@ -1,12 +1,16 @@
 package com.ybong.test.address.util;
 
 import com.ybong.test.address.exception.BizValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 
+import java.util.Set;
+
 /**
  * 검증 관련 유틸 함수 모음 클래스입니다.
  */
@@ -15,6 +19,7 @@ import org.springframework.validation.FieldError;
 public class ValidationUtil {
 
     private final MessageUtil messageUtil;
+    private final Validator validator;
 
     public void validateBindingResultOrThrow(BindingResult bindingResult) {
         String defaultMsg = messageUtil.getMessage("validation.default");
@@ -25,4 +30,22 @@ public class ValidationUtil {
         }
     }
 
+    /**
+     * 요청 객체의 유효성을 검증하여 첫 번째 오류 메시지를 반환합니다. (BindingResult 없이 항목별로 검증할 때 사용)
+     * @param target 검증할 객체
+     * @return 오류 메시지 (유효하면 null)
+     */
+    public String firstViolation(Object target) {
+        String defaultMsg = messageUtil.getMessage("validation.default");
+        if (target == null) {
+            return defaultMsg;
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(target);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        String errorMsg = violations.iterator().next().getMessage();
+        return StringUtils.isBlank(errorMsg) ? defaultMsg : errorMsg;
+    }
+
 }
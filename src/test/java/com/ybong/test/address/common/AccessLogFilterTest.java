@@ -0,0 +1,77 @@
+package com.ybong.test.address.common;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AccessLogFilter의 단위 테스트.
+ * - 요청당 한 줄 접근 로그의 항목(method, uri, status, bytes)과 샘플링 검증
+ */
+class AccessLogFilterTest {
+
+    private final AccessLogFilter filter = new AccessLogFilter();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger accessLog = (Logger) LoggerFactory.getLogger("ACCESS_LOG");
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLog.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLog.detachAppender(appender);
+    }
+
+    @Test
+    void testWritesSingleLineWithStatusAndBytes() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/customers"), new MockHttpServletResponse(), chain(200, "hello"));
+
+        assertEquals(1, appender.list.size(), "요청당 한 줄만 기록되어야 함");
+        String line = appender.list.get(0).getFormattedMessage();
+        assertFalse(line.contains("\n"), "한 줄이어야 함");
+        assertTrue(line.startsWith("method=GET uri=/api/customers status=200 latency_ms="), line);
+        assertTrue(line.endsWith(" bytes=5"), line);
+    }
+
+    @Test
+    void testSamplingSkipsSuccessButKeepsServerErrors() throws Exception {
+        filter.setSampleRate(0.0);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/customers"), new MockHttpServletResponse(), chain(200, "ok"));
+        assertTrue(appender.list.isEmpty(), "샘플링 비율 0이면 정상 응답은 기록하지 않아야 함");
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/customers"), new MockHttpServletResponse(), chain(500, "error"));
+        assertEquals(1, appender.list.size(), "5xx는 항상 기록되어야 함");
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("status=500"));
+    }
+
+    // 상태 코드와 본문을 출력 스트림으로 쓰는 요청 처리
+    private static MockFilterChain chain(int status, String body) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setStatus(status);
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
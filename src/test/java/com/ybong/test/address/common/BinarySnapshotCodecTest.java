@@ -0,0 +1,69 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.model.Customer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BinarySnapshotCodec의 단위 테스트.
+ * - 저장/적재 왕복, 여러 블록에 걸친 데이터, 손상 감지 검증
+ */
+class BinarySnapshotCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWriteAndReadRoundTrip() throws IOException {
+        List<Customer> customers = customers(50_000); // 여러 블록에 걸치도록
+        customers.add(Customer.builder().id(Long.MAX_VALUE).name("이름만").build());
+        Path file = tempDir.resolve("address.snapshot");
+
+        assertEquals(customers.size(), BinarySnapshotCodec.write(file, customers));
+
+        List<Customer> loaded = new ArrayList<>();
+        assertEquals(customers.size(), BinarySnapshotCodec.read(file, loaded::add));
+        assertEquals(customers, loaded, "저장 순서와 값이 그대로 복원되어야 함");
+    }
+
+    @Test
+    void testReadDetectsCorruption() throws IOException {
+        Path file = tempDir.resolve("address.snapshot");
+        BinarySnapshotCodec.write(file, customers(1_000));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> BinarySnapshotCodec.read(file, customer -> { }));
+    }
+
+    @Test
+    void testReadRejectsOtherFormat() throws IOException {
+        Path file = tempDir.resolve("address.csv");
+        Files.writeString(file, "고객ID,주소,연락처,이메일,이름\n1,서울시 광진구,01000000000,hong@ybong.com,홍길동\n");
+
+        assertThrows(IOException.class, () -> BinarySnapshotCodec.read(file, customer -> { }));
+    }
+
+    private List<Customer> customers(int size) {
+        List<Customer> customers = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            customers.add(Customer.builder()
+                    .id(id)
+                    .address("서울시 광진구 " + (id % 100))
+                    .phoneNumber(String.format("010%08d", id))
+                    .email("user" + id + "@ybong.com")
+                    .name("고객" + id)
+                    .build());
+        }
+        return customers;
+    }
+}
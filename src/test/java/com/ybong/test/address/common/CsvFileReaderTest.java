@@ -0,0 +1,204 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.dao.SequenceDao;
+import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.Sequence;
+import com.ybong.test.address.util.MessageUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * CsvFileReader의 단위 테스트.
+ * - 청크 단위 등록 시 잘못된 행 건너뛰기, 청크를 넘는 고유키 중복 처리(파일 순서 우선), 메모리 매핑 파서 경로,
+ *   기동 시 CSV 적재와 이후 변경 로그 재적용, 스냅샷 저장 위치에서의 재적재 검증
+ */
+class CsvFileReaderTest {
+
+    private static final String HEADER = "\"고객ID\",\"주소\",\"연락처\",\"이메일\",\"이름\"";
+    private static final int CHUNK_SIZE = 10_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private MessageUtil messageUtil;
+    private AddressBookDao dao;
+    private SequenceDao sequenceDao;
+    private WriteAheadLog writeAheadLog;
+    private CsvFileReader reader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(messageUtil.getMessage(anyString())).thenReturn("Test Message");
+        dao = new AddressBookDao(messageUtil);
+        sequenceDao = new SequenceDao(messageUtil);
+        sequenceDao.insert(Sequence.builder().data("address").maxSequence(8L).build());
+        writeAheadLog = newLog();
+        reader = new CsvFileReader(dao, sequenceDao, messageUtil,
+                new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()),
+                writeAheadLog, new AddressBookMetrics(new SimpleMeterRegistry()));
+        reader.setCsvDir(tempDir.resolve("csv").toString()); // 저장된 CSV 없음 (클래스패스 CSV 사용)
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeAheadLog.close();
+    }
+
+    @Test
+    void testImportSkipsMalformedRows() {
+        List<String> lines = List.of(
+                "1,서울시 광진구,010-0000-0000,hong@ybong.com,홍길동",
+                "abc,서울시 광진구,01000000001,id@ybong.com,아이디",      // 고객ID 숫자 변환 실패
+                "3,서울시 광진구,01000000003,short@ybong.com",          // 필드 수 부족
+                "4,서울시 광진구,010-00-0004,phone@ybong.com,전화번호",  // 전화번호 형식 오류
+                "5,서울시 광진구,01000000005,email,이메일",              // 이메일 형식 오류
+                "6,,01000000006,blank@ybong.com,주소없음",               // 필수값 누락
+                "7,경기도 성남시,01000000007,lee@ybong.com,이몽룡");
+
+        CsvFileReader.ImportResult result = reader.importCustomers(lines.iterator());
+
+        assertEquals(new CsvFileReader.ImportResult(2, 7), result);
+        assertEquals(2, dao.count());
+        assertEquals("01000000000", dao.findById(1L).orElseThrow().getPhoneNumber(), "전화번호의 '-'는 제거되어야 함");
+        assertTrue(dao.findById(7L).isPresent());
+    }
+
+    @Test
+    void testDuplicateKeysAcrossChunksKeepFirstRowInFileOrder() {
+        // 3개 청크에 걸친 행: 뒤 청크의 같은 전화번호/이메일/ID 행은 먼저 나온 행에 밀려 건너뜀
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= CHUNK_SIZE * 2 + 10; i++) {
+            lines.add(row(i, "0101" + String.format("%07d", i), "user" + i + "@ybong.com"));
+        }
+        lines.set(CHUNK_SIZE + 4, row(CHUNK_SIZE + 5, "010-1000-0003", "dup-phone@ybong.com"));  // 첫 청크의 3번 전화번호
+        lines.set(CHUNK_SIZE * 2 + 1, row(CHUNK_SIZE * 2 + 2, "01099999999", "USER7@ybong.com")); // 첫 청크의 7번 이메일 (대소문자 무시)
+        lines.add(row(2, "01088888888", "again@ybong.com"));                                        // 이미 등록된 ID
+
+        CsvFileReader.ImportResult result = reader.importCustomers(lines.iterator());
+
+        assertEquals(lines.size() - 3, result.saved());
+        assertEquals(lines.size(), result.total());
+        assertEquals(3L, dao.findByPhoneNumber("01010000003").orElseThrow().getId(), "먼저 나온 행의 전화번호가 유지되어야 함");
+        assertEquals(7L, dao.findByEmail("user7@ybong.com").orElseThrow().getId(), "먼저 나온 행의 이메일이 유지되어야 함");
+        assertTrue(dao.findById((long) CHUNK_SIZE + 5).isEmpty());
+        assertTrue(dao.findById((long) CHUNK_SIZE * 2 + 2).isEmpty());
+        assertEquals("user2@ybong.com", dao.findById(2L).orElseThrow().getEmail(), "같은 ID의 뒤 행은 덮어쓰지 않아야 함");
+
+        // 병렬 검증 후에도 각 행은 파일의 고객ID 그대로 등록되어야 함
+        for (int i = 1; i <= CHUNK_SIZE * 2 + 10; i++) {
+            if (i != CHUNK_SIZE + 5 && i != CHUNK_SIZE * 2 + 2) {
+                assertEquals("고객" + i, dao.findById((long) i).orElseThrow().getName());
+            }
+        }
+    }
+
+    @Test
+    void testImportMappedFileWithBomCrlfAndQuotes() throws IOException {
+        Path file = tempDir.resolve("address.csv");
+        String csv = "\uFEFF" + HEADER + "\r\n"
+                + "1,\"서울시 광진구, 자양동\",010-0000-0000,hong@ybong.com,\"홍\"\"길동\"\r\n"
+                + "x1,서울시 광진구,01000000001,bad@ybong.com,숫자아님\r\n"
+                + "3,강원도 강릉시,01000000002,lee@ybong.com,이순신\r\n";
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+
+        CsvFileReader.ImportResult result;
+        try (CsvMappedReader rows = new CsvMappedReader(file, true)) {
+            result = reader.importRows(rows);
+        }
+
+        assertEquals(new CsvFileReader.ImportResult(2, 3), result);
+        Customer hong = dao.findById(1L).orElseThrow();
+        assertEquals("서울시 광진구, 자양동", hong.getAddress(), "따옴표 안의 쉼표는 필드의 일부여야 함");
+        assertEquals("홍\"길동", hong.getName());
+        assertEquals("이순신", dao.findById(3L).orElseThrow().getName(), "CRLF의 \\r이 필드에 남지 않아야 함");
+    }
+
+    @Test
+    void testInitAddressBookThenReplayWriteAheadLog() throws IOException {
+        // 이전 실행에서 CSV 저장 이후 기록된 변경
+        WriteAheadLog previous = newLog();
+        previous.open();
+        AddressBookDao before = new AddressBookDao(messageUtil);
+        before.setChangeListener(previous);
+        before.restore(Customer.builder().id(1L).address("서울시 마포구").phoneNumber("01000000000")
+                .email("hong@ybong.com").name("홍길동").build());
+        before.restore(Customer.builder().id(2L).address("경기도 성남시").phoneNumber("0100000001")
+                .email("lee@ybong.com").name("이몽룡").build());
+        before.delete(Customer.builder().id(2L).build());
+        before.restore(Customer.builder().id(30L).address("부산시 해운대구").phoneNumber("01030303030")
+                .email("new@ybong.com").name("신규").build());
+        previous.close();
+
+        reader.initAddressBook();
+        assertEquals(5, dao.count(), "클래스패스 CSV의 유효한 행만 등록되어야 함");
+        assertFalse(dao.isDirty(), "CSV 적재 직후는 저장할 변경이 없어야 함");
+
+        reader.replayWriteAheadLog();
+
+        assertEquals("서울시 마포구", dao.findById(1L).orElseThrow().getAddress(), "변경 로그의 수정이 반영되어야 함");
+        assertTrue(dao.findById(2L).isEmpty(), "변경 로그의 삭제가 반영되어야 함");
+        assertEquals("신규", dao.findById(30L).orElseThrow().getName(), "변경 로그의 등록이 반영되어야 함");
+        assertEquals(30L, dao.findByPhoneNumber("01030303030").orElseThrow().getId(), "재적용한 고객도 색인되어야 함");
+        assertEquals(30L, sequenceDao.getMaxSequence("address"), "재적용한 고객ID까지 시퀀스를 올려야 함");
+        assertTrue(dao.isDirty());
+    }
+
+    @Test
+    void testSnapshotIsLoadedFromCsvDirectoryAfterCompaction() throws IOException {
+        // 스냅샷이 저장한 CSV를 다음 기동 시 그대로 읽으므로, 삭제된 변경 로그 세그먼트의 변경도 유실되지 않아야 함
+        writeAheadLog.open();
+        dao.setChangeListener(writeAheadLog);
+        dao.insert(Customer.builder().id(40L).address("부산시 해운대구").phoneNumber("01040404040")
+                .email("snap@ybong.com").name("스냅샷").build());
+        CsvFileWriter writer = new CsvFileWriter(messageUtil, dao, sequenceDao, writeAheadLog,
+                new AddressBookMetrics(new SimpleMeterRegistry()));
+        writer.setCsvDir(tempDir.resolve("csv").toString());
+        assertTrue(writer.snapshot());
+        writeAheadLog.close();
+        assertTrue(Files.isRegularFile(tempDir.resolve("csv").resolve("address.csv")), "설정한 디렉토리에 저장되어야 함");
+
+        AddressBookDao restarted = new AddressBookDao(messageUtil);
+        WriteAheadLog reopened = newLog();
+        CsvFileReader restartedReader = new CsvFileReader(restarted, new SequenceDao(messageUtil), messageUtil,
+                new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()),
+                reopened, new AddressBookMetrics(new SimpleMeterRegistry()));
+        restartedReader.setCsvDir(tempDir.resolve("csv").toString());
+        restartedReader.init();
+        reopened.close();
+
+        assertEquals(1, restarted.count(), "클래스패스 CSV가 아닌 저장된 CSV를 읽어야 함");
+        assertEquals("스냅샷", restarted.findById(40L).orElseThrow().getName());
+    }
+
+    private static String row(int id, String phoneNumber, String email) {
+        return id + ",서울시 광진구," + phoneNumber + "," + email + ",고객" + id;
+    }
+
+    private WriteAheadLog newLog() {
+        WriteAheadLog wal = new WriteAheadLog(messageUtil);
+        wal.setDir(tempDir.resolve("wal").toString());
+        wal.setSync(false);
+        return wal;
+    }
+}
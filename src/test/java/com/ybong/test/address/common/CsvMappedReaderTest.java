@@ -0,0 +1,94 @@
+package com.ybong.test.address.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CsvMappedReader의 단위 테스트.
+ * - 따옴표 헤더/필드, 공백/CRLF/BOM 처리 및 구간 경계에서의 행 분할 검증
+ */
+class CsvMappedReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadSkipsQuotedHeaderAndTrimsFields() throws IOException {
+        Path file = write("\"고객ID\", \"주소\",\"연락처\",\"이메일\",\"이름\"\n"
+                + "1,서울시 광진구, 010-0000-0000 ,hong@ybong.com,홍길동\r\n"
+                + "\n"
+                + "2,\"경기도 성남시, 분당구\",01000000001,lee@ybong.com,\"이\"\"몽룡\"\n");
+
+        List<String[]> rows = readAll(file, Long.MAX_VALUE);
+
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[]{"1", "서울시 광진구", "010-0000-0000", "hong@ybong.com", "홍길동"}, rows.get(0));
+        assertArrayEquals(new String[]{"2", "경기도 성남시, 분당구", "01000000001", "lee@ybong.com", "이\"몽룡"}, rows.get(1));
+    }
+
+    @Test
+    void testReadSkipsBomWithoutHeader() throws IOException {
+        Path file = write("\uFEFF1,서울시 광진구,01000000000,hong@ybong.com,홍길동\r\n");
+
+        List<String[]> rows = new ArrayList<>();
+        try (CsvMappedReader reader = new CsvMappedReader(file, false)) {
+            reader.forEachRemaining(rows::addAll);
+        }
+
+        assertEquals(1, rows.size());
+        assertEquals("1", rows.get(0)[0], "BOM은 첫 필드에 포함되지 않아야 함");
+        assertEquals("홍길동", rows.get(0)[4]);
+    }
+
+    @Test
+    void testReadAcrossRegionsKeepsLineOrder() throws IOException {
+        StringBuilder csv = new StringBuilder("\"고객ID\",\"주소\",\"연락처\",\"이메일\",\"이름\"\n");
+        for (int i = 1; i <= 500; i++) {
+            csv.append(i).append(",서울시,0100000").append(String.format("%04d", i))
+                    .append(",user").append(i).append("@ybong.com,고객").append(i).append('\n');
+        }
+        Path file = write(csv.toString());
+
+        // 한 행보다 조금 긴 구간으로 나누어 읽어도 행이 잘리지 않아야 함
+        List<String[]> rows = readAll(file, 64);
+
+        assertEquals(500, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(String.valueOf(i + 1), rows.get(i)[0]);
+            assertEquals("고객" + (i + 1), rows.get(i)[4]);
+        }
+    }
+
+    @Test
+    void testReadReportsFieldCountAsIs() throws IOException {
+        Path file = write("header\n1,서울시,01000000000\n");
+
+        List<String[]> rows = readAll(file, Long.MAX_VALUE);
+
+        assertEquals(1, rows.size());
+        assertEquals(3, rows.get(0).length);
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("address.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<String[]> readAll(Path file, long regionSize) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (CsvMappedReader reader = new CsvMappedReader(file, true, regionSize)) {
+            reader.forEachRemaining(rows::addAll);
+        }
+        return rows;
+    }
+}
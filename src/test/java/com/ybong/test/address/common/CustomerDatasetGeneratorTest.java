@@ -0,0 +1,104 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.exception.ConflictException;
+import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.util.MessageUtil;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CustomerDatasetGenerator의 단위 테스트.
+ * - 같은 시드의 재현성, 생성한 CSV를 적재했을 때 정상 행만 등록되고 중복/오류 행은 건너뛰는지 검증
+ */
+class CustomerDatasetGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSameSeedProducesSameRows() throws IOException {
+        assertArrayEquals(generate(7, 5_000), generate(7, 5_000), "같은 시드는 같은 파일을 만들어야 함");
+        assertFalse(Arrays.equals(generate(7, 5_000), generate(8, 5_000)), "다른 시드는 다른 데이터여야 함");
+
+        CustomerDatasetGenerator generator = new CustomerDatasetGenerator(7);
+        Customer customer = generator.customer(123);
+        assertEquals(123L, customer.getId());
+        assertEquals(customer.getPhoneNumber(), generator.phoneNumber(123));
+        assertEquals(generator.row(123).replace("-", ""),
+                String.join(",", "123", customer.getAddress(), customer.getPhoneNumber(), customer.getEmail(), customer.getName()).replace("-", ""),
+                "정상 행은 customer(id)와 같은 값이어야 함");
+    }
+
+    @Test
+    void testLoadSkipsDuplicateAndInvalidRows() throws IOException {
+        // CsvFileReader와 같은 규칙(필드 수, ID 숫자, Bean Validation, 고유키 선점)으로 적재
+        CustomerDatasetGenerator.Summary summary = new CustomerDatasetGenerator(42, 0.05, 0.05).writeCsv(tempDir, 20_000);
+        assertEquals(20_000, summary.valid() + summary.duplicate() + summary.invalid());
+        assertTrue(summary.duplicate() > 700 && summary.duplicate() < 1300, "중복 행 비율: " + summary.duplicate());
+        assertTrue(summary.invalid() > 700 && summary.invalid() < 1300, "오류 행 비율: " + summary.invalid());
+
+        MessageUtil messageUtil = mock(MessageUtil.class);
+        when(messageUtil.getMessage(anyString())).thenReturn("Test Message");
+        AddressBookDao dao = new AddressBookDao(messageUtil);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        long saved = 0;
+        try (CsvMappedReader reader = new CsvMappedReader(tempDir.resolve("address.csv"), true)) {
+            while (reader.hasNext()) {
+                for (String[] fields : reader.next()) {
+                    Customer customer = toCustomer(fields);
+                    if (customer == null || !validator.validate(customer).isEmpty()) {
+                        continue;
+                    }
+                    try {
+                        dao.insert(customer);
+                        saved++;
+                    } catch (ConflictException e) {
+                        // 중복 행
+                    }
+                }
+            }
+        }
+        assertEquals(summary.valid(), saved, "정상 행만 등록되어야 함");
+        assertEquals(List.of("데이터명,MAX_SEQUENCE", "address,20000", "address_hist,0"),
+                Files.readAllLines(tempDir.resolve("sequence.csv"), StandardCharsets.UTF_8));
+    }
+
+    private static byte[] generate(long seed, long rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CustomerDatasetGenerator(seed, 0.01, 0.01).writeAddressCsv(out, rows);
+        return out.toByteArray();
+    }
+
+    private static Customer toCustomer(String[] fields) {
+        if (fields.length != 5) {
+            return null;
+        }
+        try {
+            return Customer.builder()
+                    .id(Long.parseLong(fields[0]))
+                    .address(fields[1])
+                    .phoneNumber(fields[2].replace("-", ""))
+                    .email(fields[3])
+                    .name(fields[4])
+                    .build();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.ybong.test.address.common;
+
+import com.ybong.test.address.dao.AddressBookChangeListener;
+import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.util.MessageUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * WriteAheadLog의 단위 테스트.
+ * - 저장/삭제 기록 후 재적용 순서, 특수문자 이스케이프, 잘린 기록 처리, 세그먼트 전환, 기록 실패/반영 실패 처리 검증
+ */
+class WriteAheadLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private MessageUtil messageUtil;
+    private Path walPath;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(messageUtil.getMessage(anyString())).thenReturn("Test Message");
+        walPath = tempDir.resolve("address-000001.wal");
+    }
+
+    @Test
+    void testReplayInAppendOrder() throws IOException {
+        WriteAheadLog wal = newLog(true);
+        wal.open();
+        wal.onSave(customer(1L, "서울시\t광진구", "홍\\길동"));
+        wal.afterCommit();
+        wal.onSave(customer(2L, "경기도 성남시", "이몽룡"));
+        wal.onDelete(Customer.builder().id(1L).build());
+        wal.close();
+
+        List<String> replayed = replay();
+
+        assertEquals(List.of("S1:서울시\t광진구:홍\\길동", "S2:경기도 성남시:이몽룡", "D1"), replayed);
+    }
+
+    @Test
+    void testTornTailIsDiscardedAndTruncated() throws IOException {
+        WriteAheadLog wal = newLog(false);
+        wal.open();
+        wal.onSave(customer(1L, "서울시 광진구", "홍길동"));
+        wal.close();
+        // 기록 도중 종료된 것처럼 줄바꿈 없는 조각을 덧붙임
+        Files.write(walPath, "S\t2\t경기".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(List.of("S1:서울시 광진구:홍길동"), replay());
+
+        // 다시 열면 잘린 조각을 잘라내고 이어서 기록
+        WriteAheadLog reopened = newLog(false);
+        reopened.open();
+        reopened.onDelete(Customer.builder().id(1L).build());
+        reopened.close();
+
+        assertEquals(List.of("S1:서울시 광진구:홍길동", "D1"), replay());
+    }
+
+    @Test
+    void testRotateStartsNewSegment() throws IOException {
+        WriteAheadLog wal = newLog(false);
+        wal.open();
+        assertEquals(-1, wal.rotate(), "변경이 없으면 전환하지 않음");
+
+        wal.onSave(customer(1L, "서울시 광진구", "홍길동"));
+        wal.afterCommit();
+        long segment = wal.rotate();
+        wal.onSave(customer(2L, "경기도 성남시", "이몽룡"));
+        wal.afterCommit();
+        wal.close();
+
+        assertEquals(2, segment);
+        assertEquals(List.of("S1:서울시 광진구:홍길동", "S2:경기도 성남시:이몽룡"), replay());
+
+        // 스냅샷에 포함된 이전 세그먼트를 삭제하면 이후 변경만 남음
+        wal.deleteSegmentsBefore(segment);
+        assertFalse(Files.exists(walPath));
+        assertEquals(List.of("S2:경기도 성남시:이몽룡"), replay());
+    }
+
+    @Test
+    void testWriteFailureRejectsLaterChanges() throws IOException {
+        // 쓰기가 항상 실패하는 장치(/dev/full)로 세그먼트를 전환하여 fsync 실패를 만듦
+        Path full = Path.of("/dev/full");
+        assumeTrue(Files.isWritable(full), "/dev/full이 있는 환경에서만 실행");
+        WriteAheadLog wal = newLog(true);
+        wal.open();
+        wal.onSave(customer(1L, "서울시 광진구", "홍길동"));
+        wal.afterCommit();
+        Files.createSymbolicLink(tempDir.resolve("address-000002.wal"), full);
+        assertEquals(2, wal.rotate());
+
+        wal.onSave(customer(2L, "경기도 성남시", "이몽룡"));
+        assertThrows(IllegalStateException.class, wal::afterCommit, "기록되지 않은 변경은 실패로 응답해야 함");
+        assertThrows(IllegalStateException.class, () -> wal.onSave(customer(3L, "부산시", "성춘향")), "실패 이후 추가는 거부해야 함");
+        assertThrows(IllegalStateException.class, wal::afterCommit, "실패 이후 afterCommit도 계속 실패해야 함");
+        wal.close();
+    }
+
+    @Test
+    void testFailedChangeDoesNotBlockRotate() throws IOException {
+        // 변경 로그에 추가된 뒤 반영이 실패한 변경도 세그먼트 미완료 건수가 정리되어 rotate가 멈추지 않아야 함
+        WriteAheadLog wal = newLog(false);
+        wal.open();
+        AddressBookDao dao = new AddressBookDao(messageUtil);
+        dao.setChangeListener(new AddressBookChangeListener() {
+            @Override
+            public void onSave(Customer customer) {
+                wal.onSave(customer);
+                if (customer.getId() == 2L) {
+                    throw new IllegalStateException("rejected");
+                }
+            }
+
+            @Override
+            public void onDelete(Customer customer) {
+                wal.onDelete(customer);
+            }
+
+            @Override
+            public void afterCommit() {
+                wal.afterCommit();
+            }
+        });
+        dao.insert(customer(1L, "서울시 광진구", "홍길동"));
+        assertThrows(IllegalStateException.class, () -> dao.insert(customer(2L, "경기도 성남시", "이몽룡")));
+        assertFalse(dao.findById(2L).isPresent(), "통지가 실패한 변경은 반영되지 않아야 함");
+        assertFalse(dao.findByPhoneNumber(customer(2L, "", "").getPhoneNumber()).isPresent(), "선점했던 전화번호는 원복되어야 함");
+
+        assertEquals(2, assertTimeoutPreemptively(Duration.ofSeconds(5), wal::rotate), "반영 실패한 변경 때문에 전환이 멈추지 않아야 함");
+        wal.close();
+    }
+
+    private WriteAheadLog newLog(boolean sync) {
+        WriteAheadLog wal = new WriteAheadLog(messageUtil);
+        wal.setDir(tempDir.toString());
+        wal.setSync(sync);
+        return wal;
+    }
+
+    private List<String> replay() throws IOException {
+        List<String> replayed = new ArrayList<>();
+        newLog(false).replay(new AddressBookChangeListener() {
+            @Override
+            public void onSave(Customer customer) {
+                replayed.add("S" + customer.getId() + ":" + customer.getAddress() + ":" + customer.getName());
+            }
+
+            @Override
+            public void onDelete(Customer customer) {
+                replayed.add("D" + customer.getId());
+            }
+        });
+        return replayed;
+    }
+
+    private Customer customer(Long id, String address, String name) {
+        return Customer.builder()
+                .id(id)
+                .address(address)
+                .phoneNumber("0100000000" + id)
+                .email("user" + id + "@ybong.com")
+                .name(name)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.ybong.test.address.concurrency;
 
 import com.ybong.test.address.dao.AddressBookDao;
+import com.ybong.test.address.exception.ConflictException;
 import com.ybong.test.address.model.Customer;
 import com.ybong.test.address.util.MessageUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.Map;
 import java.util.Optional;
 
@@ -25,6 +27,8 @@ import static org.junit.jupiter.api.Assertions.*;
  * - 다중 스레드 환경에서의 데이터 일관성 검증
  * - 동시 읽기/쓰기 작업의 안정성 검증
  * - 동시 삭제 작업의 안정성 검증
+ * - 동시 등록 시 고유키(전화번호/이메일) 중복 방지 검증
+ * - 등록과 수정(PUT)이 같은 전화번호를 동시에 선점할 때 중복 방지 검증
  */
 class AddressBookConcurrencyTest {
 
@@ -62,7 +66,7 @@ class AddressBookConcurrencyTest {
                                 .address("Test Address " + threadId)
                                 .build();
                         
-                        Customer saved = addressBookDao.save(customer);
+                        Customer saved = addressBookDao.restore(customer);
                         synchronized (savedCustomers) {
                             savedCustomers.add(saved);
                         }
@@ -76,13 +80,13 @@ class AddressBookConcurrencyTest {
         latch.await(1, TimeUnit.MINUTES);
 
         // Then
-        Map<String, Customer> addressBook = addressBookDao.getAddressBook();
+        Map<Long, Customer> addressBook = addressBookDao.getAddressBook();
         assertEquals(THREAD_COUNT * OPERATION_COUNT, addressBook.size(), "모든 고객이 저장되어야 함");
         
         for (Customer customer : savedCustomers) {
-            assertTrue(addressBook.containsKey(customer.getIdStr()), 
+            assertTrue(addressBook.containsKey(customer.getId()), 
                 "저장된 고객이 주소록에 존재해야 함: " + customer.getIdStr());
-            assertEquals(customer, addressBook.get(customer.getIdStr()),
+            assertEquals(customer, addressBook.get(customer.getId()),
                 "저장된 고객 정보가 일치해야 함");
         }
     }
@@ -110,7 +114,7 @@ class AddressBookConcurrencyTest {
                                 .address("Test Address " + threadId)
                                 .build();
                         
-                        Customer saved = addressBookDao.save(customer);
+                        Customer saved = addressBookDao.restore(customer);
                         synchronized (savedCustomers) {
                             savedCustomers.add(saved);
                         }
@@ -129,7 +133,7 @@ class AddressBookConcurrencyTest {
         latch.await(1, TimeUnit.MINUTES);
 
         // Then
-        Map<String, Customer> addressBook = addressBookDao.getAddressBook();
+        Map<Long, Customer> addressBook = addressBookDao.getAddressBook();
         assertEquals(THREAD_COUNT * OPERATION_COUNT, addressBook.size(), "모든 고객이 저장되어야 함");
     }
 
@@ -150,7 +154,7 @@ class AddressBookConcurrencyTest {
                     .phoneNumber("010-1234-" + String.format("%04d", i))
                     .address("Test Address " + i)
                     .build();
-            addressBookDao.save(customer);
+            addressBookDao.restore(customer);
             customersToDelete.add(customer);
         }
 
@@ -177,7 +181,196 @@ class AddressBookConcurrencyTest {
         latch.await(1, TimeUnit.MINUTES);
 
         // Then
-        Map<String, Customer> addressBook = addressBookDao.getAddressBook();
+        Map<Long, Customer> addressBook = addressBookDao.getAddressBook();
         assertTrue(addressBook.isEmpty(), "모든 고객이 삭제되어야 함");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("동시 등록 시 전화번호 중복 방지 테스트")
+    void testConcurrentInsertPhoneUniqueness() throws InterruptedException {
+        // Given: 모든 스레드가 같은 전화번호 집합을 서로 다른 ID/이메일로 동시에 등록 시도
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            final int threadId = i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < OPERATION_COUNT; j++) {
+                        Customer customer = Customer.builder()
+                                .id((long) (threadId * OPERATION_COUNT + j))
+                                .name("Test User " + threadId)
+                                .email("test" + threadId + "_" + j + "@test.com")
+                                .phoneNumber("010-1234-" + String.format("%04d", j))
+                                .address("Test Address " + threadId)
+                                .build();
+                        try {
+                            addressBookDao.insert(customer);
+                            successCount.incrementAndGet();
+                        } catch (ConflictException e) {
+                            conflictCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // Then: 전화번호별로 정확히 한 건만 등록되어야 함
+        assertEquals(OPERATION_COUNT, successCount.get(), "전화번호당 한 건만 등록되어야 함");
+        assertEquals((THREAD_COUNT - 1) * OPERATION_COUNT, conflictCount.get(), "나머지는 모두 중복 처리되어야 함");
+        assertEquals(OPERATION_COUNT, addressBookDao.getAddressBook().size(), "주소록에는 전화번호 수만큼만 존재해야 함");
+        for (int j = 0; j < OPERATION_COUNT; j++) {
+            Optional<Customer> found = addressBookDao.findByPhoneNumber("010-1234-" + String.format("%04d", j));
+            assertTrue(found.isPresent(), "등록된 전화번호는 조회되어야 함");
+            assertEquals(found.get(), addressBookDao.findByEmail(found.get().getEmail()).orElse(null),
+                    "전화번호/이메일 인덱스가 같은 고객을 가리켜야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("동시 등록 시 이메일 중복 방지 및 선점 원복 테스트")
+    void testConcurrentInsertEmailUniqueness() throws InterruptedException {
+        // Given: 스레드마다 고유한 전화번호를 쓰지만 이메일은 모두 같은 집합을 사용
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            final int threadId = i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < OPERATION_COUNT; j++) {
+                        Customer customer = Customer.builder()
+                                .id((long) (threadId * OPERATION_COUNT + j))
+                                .name("Test User " + threadId)
+                                .email("same" + j + "@test.com")
+                                .phoneNumber("010" + String.format("%04d", threadId) + String.format("%04d", j))
+                                .address("Test Address " + threadId)
+                                .build();
+                        try {
+                            addressBookDao.insert(customer);
+                            successCount.incrementAndGet();
+                        } catch (ConflictException ignored) {
+                            // 중복 이메일
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // Then: 실패한 등록이 선점했던 전화번호는 모두 원복되어야 함
+        assertEquals(OPERATION_COUNT, successCount.get(), "이메일당 한 건만 등록되어야 함");
+        assertEquals(OPERATION_COUNT, addressBookDao.getAddressBook().size(), "주소록에는 이메일 수만큼만 존재해야 함");
+        assertEquals(OPERATION_COUNT, addressBookDao.phoneIndexSize(), "실패한 등록의 전화번호는 인덱스에 남지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("등록과 수정이 같은 전화번호를 동시에 선점할 때 중복 방지 테스트")
+    void testConcurrentInsertAndUpdateSamePhone() throws InterruptedException {
+        // Given: 기존 고객 j를 전화번호 P_j로 수정하는 스레드와, 새 고객을 같은 P_j로 등록하는 스레드를 동시에 실행
+        for (int j = 0; j < OPERATION_COUNT; j++) {
+            addressBookDao.insert(Customer.builder()
+                    .id((long) j)
+                    .name("Existing " + j)
+                    .email("existing" + j + "@test.com")
+                    .phoneNumber("010-5555-" + String.format("%04d", j))
+                    .address("Test Address")
+                    .build());
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+
+        // When
+        for (int t = 0; t < 2; t++) {
+            final boolean updater = t == 0;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < OPERATION_COUNT; j++) {
+                        String phone = "010-7777-" + String.format("%04d", j);
+                        try {
+                            if (updater) {
+                                addressBookDao.update(Customer.builder()
+                                        .id((long) j)
+                                        .name("Existing " + j)
+                                        .email("existing" + j + "@test.com")
+                                        .phoneNumber(phone)
+                                        .address("Test Address")
+                                        .build());
+                            } else {
+                                addressBookDao.insert(Customer.builder()
+                                        .id((long) (OPERATION_COUNT + j))
+                                        .name("New " + j)
+                                        .email("new" + j + "@test.com")
+                                        .phoneNumber(phone)
+                                        .address("Test Address")
+                                        .build());
+                            }
+                            successCount.incrementAndGet();
+                        } catch (ConflictException e) {
+                            conflictCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // Then: 전화번호마다 한 고객만 가지며, 인덱스는 그 고객을 가리켜야 함
+        assertEquals(OPERATION_COUNT, successCount.get(), "전화번호당 등록/수정 중 한 건만 성공해야 함");
+        assertEquals(OPERATION_COUNT, conflictCount.get(), "나머지는 중복 처리되어야 함");
+        Map<Long, Customer> addressBook = addressBookDao.getAddressBook();
+        for (int j = 0; j < OPERATION_COUNT; j++) {
+            String phone = "010-7777-" + String.format("%04d", j);
+            List<Customer> owners = addressBook.values().stream()
+                    .filter(c -> AddressBookDao.phoneKey(phone).equals(AddressBookDao.phoneKey(c.getPhoneNumber())))
+                    .toList();
+            assertEquals(1, owners.size(), "같은 전화번호를 가진 고객은 한 명이어야 함: " + phone);
+            assertEquals(owners.get(0).getId(), addressBookDao.findByPhoneNumber(phone).orElseThrow().getId(),
+                    "전화번호 인덱스가 실제 소유 고객을 가리켜야 함");
+        }
+        assertEquals(addressBook.size(), addressBookDao.phoneIndexSize(), "고객마다 전화번호 인덱스 항목이 하나씩 있어야 함");
+
+        // 이긴 쪽을 삭제해도 다른 고객의 인덱스 항목은 남아야 함
+        for (Customer customer : List.copyOf(addressBook.values())) {
+            if (customer.getPhoneNumber().startsWith("010-7777")) {
+                addressBookDao.delete(customer);
+            }
+        }
+        for (Customer customer : addressBookDao.getAddressBook().values()) {
+            assertEquals(customer.getId(), addressBookDao.findByPhoneNumber(customer.getPhoneNumber()).orElseThrow().getId(),
+                    "남은 고객은 전화번호로 조회되어야 함");
+        }
+    }
+}
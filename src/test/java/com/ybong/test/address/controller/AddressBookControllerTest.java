@@ -1,6 +1,11 @@
 package com.ybong.test.address.controller;
 
+import com.ybong.test.address.common.AddressBookMetrics;
 import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerBulkResult;
+import com.ybong.test.address.model.CustomerDeleteResult;
+import com.ybong.test.address.model.CustomerPage;
+import com.ybong.test.address.model.CustomerUpdate;
 import com.ybong.test.address.service.AddressBookService;
 import com.ybong.test.address.util.MessageUtil;
 import com.ybong.test.address.mapper.CustomerMapper;
@@ -11,13 +16,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.ybong.test.address.util.ValidationUtil;
 import com.ybong.test.address.exception.BizValidationException;
@@ -47,6 +59,9 @@ class AddressBookControllerTest {
 
     @MockBean
     private ValidationUtil validationUtil;
+
+    @MockBean
+    private AddressBookMetrics metrics;
     
 
     @BeforeEach
@@ -116,6 +131,36 @@ class AddressBookControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    void testAddCustomersBulk() throws Exception {
+        // 대량 등록 API 테스트 (항목별 결과 반환)
+        String requestBody = "[{\"name\":\"봉예원\",\"email\":\"bong@test.com\",\"phoneNumber\":\"010-1111-2222\",\"address\":\"서울특별시\"},"
+                + "{\"name\":\"\",\"email\":\"bad\",\"phoneNumber\":\"123\",\"address\":\"\"}]";
+        Customer customer = Customer.builder().id(1L).name("봉예원").build();
+        List<CustomerBulkResult> results = List.of(
+                CustomerBulkResult.created(0, customer),
+                CustomerBulkResult.failed(1, CustomerBulkResult.Status.INVALID, "이름을 입력해주세요."));
+        when(addressBookService.addCustomers(any())).thenReturn(results);
+        when(customerMapper.toCustomerBulkResponse(any())).thenReturn(
+            com.ybong.test.address.dto.CustomerBulkResponse.builder()
+                .requestedCount(2)
+                .createdCount(1)
+                .failedCount(1)
+                .results(results)
+                .build()
+        );
+
+        mockMvc.perform(post("/api/customers/bulk")
+                .contentType("application/json")
+                .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].customer.id").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].message").value("이름을 입력해주세요."));
+    }
+
     @Test
     void testSearchCustomers() throws Exception {
         // 고객 목록 조회 API 테스트
@@ -127,7 +172,12 @@ class AddressBookControllerTest {
                 .address("서울특별시")
                 .build();
 
-        when(addressBookService.searchCustomers(any(), any(), any(), any())).thenReturn(List.of(customer));
+        when(addressBookService.searchCustomerPage(any(), any(), any(), any(), any(), any(), any())).thenReturn(
+            CustomerPage.builder()
+                .count(1)
+                .customers(List.of(customer))
+                .build()
+        );
         when(customerMapper.toCustomerSearchResponse(any())).thenReturn(
             com.ybong.test.address.dto.CustomerSearchResponse.builder()
                 .count(1)
@@ -149,6 +199,69 @@ class AddressBookControllerTest {
                 .andExpect(jsonPath("$.customers[0].address").value("서울특별시"));
     }
 
+    @Test
+    void testSearchCustomersStream() throws Exception {
+        // 스트리밍(NDJSON) 조회 API 테스트: 한 줄에 한 고객씩 전송
+        Customer customer1 = Customer.builder().id(1L).name("봉예원").email("bong@test.com").phoneNumber("01011112222").address("서울특별시").build();
+        Customer customer2 = Customer.builder().id(2L).name("홍길동").email("hong@test.com").phoneNumber("01033334444").address("부산광역시").build();
+        when(addressBookService.streamCustomers(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<Customer> consumer = invocation.getArgument(4);
+            consumer.accept(customer1);
+            consumer.accept(customer2);
+            return 2;
+        });
+
+        mockMvc.perform(get("/api/customers")
+                .param("stream", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(result -> {
+                    String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+                    assertEquals(2, lines.length, "고객 수만큼 줄이 전송되어야 함");
+                    assertTrue(lines[0].contains("\"name\":\"봉예원\""), "첫 줄은 첫 번째 고객이어야 함");
+                });
+
+        mockMvc.perform(get("/api/customers")
+                .header("Accept", "application/x-ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+    }
+
+    @Test
+    void testSearchCustomersStreamFollowsAcceptQuality() throws Exception {
+        // Accept 헤더의 q 값이 가장 높은 형식으로 응답: NDJSON이 JSON보다 낮으면 일반 JSON 조회
+        mockMvc.perform(get("/api/customers")
+                .header("Accept", "application/json, application/x-ndjson;q=0.1"))
+                .andExpect(status().isOk());
+        verify(addressBookService, never()).streamCustomers(any(), any(), any(), any(), any());
+
+        mockMvc.perform(get("/api/customers")
+                .header("Accept", "application/json;q=0.5, application/x-ndjson"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+    }
+
+    @Test
+    void testSearchCustomersStreamEndsOnErrorAfterFirstLine() throws Exception {
+        // 첫 줄을 보낸 뒤의 예외는 오류 응답 없이 이미 보낸 줄까지만 전송하고 종료
+        Customer customer = Customer.builder().id(1L).name("봉예원").email("bong@test.com").phoneNumber("01011112222").address("서울특별시").build();
+        when(addressBookService.streamCustomers(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<Customer> consumer = invocation.getArgument(4);
+            consumer.accept(customer);
+            throw new IllegalStateException("stream failed");
+        });
+
+        mockMvc.perform(get("/api/customers")
+                .param("stream", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(result -> {
+                    String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+                    assertEquals(1, lines.length, "이미 보낸 줄만 남아야 함");
+                    assertTrue(lines[0].contains("\"name\":\"봉예원\""));
+                });
+    }
+
     @Test
     void testSearchCustomersWithInvalidParams() throws Exception {
         // 유효하지 않은 파라미터로 검색 시도 시 400 에러 테스트
@@ -220,6 +333,31 @@ class AddressBookControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    void testPatchCustomerDiff() throws Exception {
+        // 부분 수정 API 테스트 (diff=true면 바뀐 필드만 반환)
+        Customer before = Customer.builder().id(1L).name("홍길동").email("old@test.com").build();
+        Customer after = Customer.builder().id(1L).name("홍길동").email("new@test.com").build();
+        CustomerUpdate update = new CustomerUpdate(before, after);
+        when(addressBookService.patchCustomer(any(), any())).thenReturn(update);
+        when(customerMapper.toCustomerPatchResponse(any(), eq(true))).thenReturn(
+            com.ybong.test.address.dto.CustomerPatchResponse.builder()
+                .id(1L)
+                .changes(update.changes())
+                .build()
+        );
+
+        mockMvc.perform(patch("/api/customers/1?diff=true")
+                .contentType("application/json")
+                .content("{\"email\":\"new@test.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.changes.email.before").value("old@test.com"))
+                .andExpect(jsonPath("$.changes.email.after").value("new@test.com"))
+                .andExpect(jsonPath("$.changes.name").doesNotExist())
+                .andExpect(jsonPath("$.before").doesNotExist());
+    }
+
     @Test
     void testDeleteCustomers() throws Exception {
         // 고객 삭제 API 테스트
@@ -256,4 +394,30 @@ class AddressBookControllerTest {
                 .andExpect(jsonPath("$.code").exists())
                 .andExpect(jsonPath("$.message").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDeleteCustomersInBatch() throws Exception {
+        // 일괄 삭제 API 테스트 (ID별 결과 반환)
+        List<CustomerDeleteResult> results = List.of(
+                new CustomerDeleteResult(1L, CustomerDeleteResult.Status.DELETED, null),
+                new CustomerDeleteResult(999L, CustomerDeleteResult.Status.NOT_FOUND, "고객을 찾을 수 없습니다"));
+        when(addressBookService.deleteCustomersInBatch(any())).thenReturn(results);
+        when(customerMapper.toCustomerBulkDeleteResponse(any())).thenReturn(
+            com.ybong.test.address.dto.CustomerBulkDeleteResponse.builder()
+                .requestedCount(2)
+                .deletedCount(1)
+                .failedCount(1)
+                .results(results)
+                .build()
+        );
+
+        mockMvc.perform(post("/api/customers/bulk/delete")
+                .contentType("application/json")
+                .content("[1, 999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletedCount").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("DELETED"))
+                .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"));
+    }
+}
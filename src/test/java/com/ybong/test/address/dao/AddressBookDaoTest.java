@@ -1,6 +1,10 @@
 package com.ybong.test.address.dao;
 
+import com.ybong.test.address.exception.ConflictException;
+import com.ybong.test.address.exception.NoChangeException;
+import com.ybong.test.address.exception.NotFoundException;
 import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerUpdate;
 import com.ybong.test.address.util.MessageUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,25 +44,48 @@ class AddressBookDaoTest {
                 .phoneNumber("01012345678")
                 .address("서울시 마포구")
                 .build();
-        dao.save(customer);
-        dao.setAddressBook_init();
+        dao.insert(customer);
+        dao.markClean(dao.getModCount());
     }
 
     @Test
     void testInitialLoad() {
-        // CSV에서 정상적으로 데이터가 로딩되는지 검증
+        // 저장된 데이터가 조회 뷰와 고객 수에 반영되는지 검증
         Collection<Customer> addressBook = dao.getAddressBook().values();
-        Collection<Customer> addressBook_readOnly = dao.getAddressBook_readOnly().values();
         assertFalse(addressBook.isEmpty(), "초기 로딩 시 최소 한 명 이상 데이터가 있어야 한다.");
-        assertEquals(addressBook.size(), addressBook_readOnly.size(), "초기 로딩 시 두 컬렉션의 크기가 같아야 한다.");
+        assertEquals(addressBook.size(), dao.count(), "조회 뷰와 고객 수가 같아야 한다.");
     }
 
     @Test
-    void testAddressBookConsistency() {
-        // addressBook과 초기 상태 addressBook_readOnly가 일치하는지 검증
-        Collection<Customer> addressBook = dao.getAddressBook().values();
-        Collection<Customer> addressBook_readOnly = dao.getAddressBook_readOnly().values();
-        assertEquals(addressBook, addressBook_readOnly, "초기 로딩 시 마스터데이터와 readOnly 데이터가 일치해야 한다.");
+    void testSnapshotIsolation() {
+        // 스냅샷을 연 뒤의 수정/등록/삭제는 스냅샷에 보이지 않고, 최신 조회에는 바로 보여야 함
+        Customer original = dao.findById(1L).orElseThrow();
+        try (VersionedCustomerStore.Snapshot snapshot = dao.openSnapshot()) {
+            dao.update(Customer.builder()
+                    .id(1L)
+                    .name("홍길동")
+                    .email("changed@test.com")
+                    .phoneNumber("01011112222")
+                    .address("서울시 종로구")
+                    .build());
+            dao.insert(Customer.builder()
+                    .id(2L)
+                    .name("이몽룡")
+                    .email("lee@test.com")
+                    .phoneNumber("01099998888")
+                    .address("경기도 성남시")
+                    .build());
+
+            assertSame(original, snapshot.get(1L), "스냅샷은 연 시점의 값을 읽어야 함");
+            assertNull(snapshot.get(2L), "스냅샷 이후 등록된 고객은 보이지 않아야 함");
+            assertEquals(List.of(original), new ArrayList<>(snapshot), "스냅샷 순회 결과가 연 시점과 같아야 함");
+            assertEquals("서울시 종로구", dao.findById(1L).orElseThrow().getAddress(), "최신 조회는 수정된 값을 읽어야 함");
+            assertEquals(2, dao.count());
+
+            dao.delete(original);
+            assertSame(original, snapshot.get(1L), "스냅샷 이후 삭제된 고객은 계속 보여야 함");
+        }
+        assertFalse(dao.findById(1L).isPresent());
     }
 
     @Test
@@ -67,19 +95,44 @@ class AddressBookDaoTest {
                 .id(99L)
                 .name("홍길동")
                 .email("test@test.com")
-                .phoneNumber("010-1234-5678")
+                .phoneNumber("010-1234-9999")
                 .address("서울시 종로구")
                 .build();
-        dao.save(newCustomer);
+        dao.insert(newCustomer);
         assertTrue(dao.findById(99L).isPresent(), "고객 추가 후 조회 가능해야 한다.");
     }
 
     @Test
     void testToCsvLinesConsistency() {
-        // 파일에서 읽은 데이터와 내부 데이터가 일치하는지 검증
+        // 헤더와 저장된 고객 데이터가 CSV 행으로 변환되는지 검증
         List<String> csvLines = dao.toCsvLines();
-        List<String> initLines = dao.getAddressBook_init();
-        assertEquals(csvLines, initLines, "CSV 데이터가 일치해야 함");
+        assertEquals(List.of("고객ID,주소,연락처,이메일,이름", "1,서울시 마포구,01012345678,test1@test.com,홍길동"), csvLines,
+                "CSV 데이터가 일치해야 함");
+    }
+
+    @Test
+    void testDirtyTracking() {
+        // 저장/삭제 시 변경 여부가 갱신되고, 저장 완료 기록 후에는 변경 없음으로 판단되는지 검증
+        assertFalse(dao.isDirty(), "초기 로딩 직후에는 변경이 없어야 함");
+
+        Customer customer = Customer.builder()
+                .id(2L)
+                .name("이몽룡")
+                .email("lee@test.com")
+                .phoneNumber("01099998888")
+                .address("경기도 성남시")
+                .build();
+        dao.insert(customer);
+        assertTrue(dao.isDirty(), "저장 후에는 변경이 있어야 함");
+
+        long saved = dao.getModCount();
+        dao.delete(customer);
+        dao.markClean(saved);
+        assertTrue(dao.isDirty(), "저장 기록 이후의 삭제는 변경으로 남아야 함");
+
+        dao.markClean(dao.getModCount());
+        dao.delete(customer);
+        assertFalse(dao.isDirty(), "없는 고객 삭제는 변경이 아님");
     }
 
     @Test
@@ -92,9 +145,142 @@ class AddressBookDaoTest {
                 .phoneNumber("010-9876-5432")
                 .address("서울시 동대문구")
                 .build();
-        dao.save(customerToDelete);
+        dao.insert(customerToDelete);
         Customer deletedCustomer = dao.delete(customerToDelete);
         assertNotNull(deletedCustomer, "삭제된 고객 정보가 반환되어야 함");
         assertFalse(dao.findById(100L).isPresent(), "삭제 후 조회 불가능해야 함");
     }
+
+    @Test
+    void testFindByUniqueKeyIndex() {
+        // 전화번호('-' 무시)/이메일(대소문자 무시) 인덱스 조회 테스트
+        assertEquals(1L, dao.findByPhoneNumber("010-1234-5678").orElseThrow().getId(), "전화번호 인덱스로 조회되어야 함");
+        assertEquals(1L, dao.findByEmail("TEST1@test.com").orElseThrow().getId(), "이메일 인덱스로 조회되어야 함");
+        assertFalse(dao.findByPhoneNumber("01099999999").isPresent(), "없는 전화번호는 조회되지 않아야 함");
+    }
+
+    @Test
+    void testIndexUpdatedOnSaveAndDelete() {
+        // 수정 시 이전 키는 인덱스에서 제거되고, 삭제 시 모든 키가 제거되는지 검증
+        Customer updated = Customer.builder()
+                .id(1L)
+                .name("홍길동")
+                .email("changed@test.com")
+                .phoneNumber("01011112222")
+                .address("서울시 마포구")
+                .build();
+        dao.update(updated);
+        assertFalse(dao.findByPhoneNumber("01012345678").isPresent(), "수정 전 전화번호는 조회되지 않아야 함");
+        assertFalse(dao.findByEmail("test1@test.com").isPresent(), "수정 전 이메일은 조회되지 않아야 함");
+        assertTrue(dao.findByPhoneNumber("01011112222").isPresent(), "수정 후 전화번호로 조회되어야 함");
+
+        dao.delete(updated);
+        assertFalse(dao.findByPhoneNumber("01011112222").isPresent(), "삭제 후 전화번호로 조회되지 않아야 함");
+        assertFalse(dao.findByEmail("changed@test.com").isPresent(), "삭제 후 이메일로 조회되지 않아야 함");
+    }
+
+    @Test
+    void testPatchUpdatesOnlyChangedFields() {
+        // 부분 수정: 입력한 필드만 바뀌고, 바뀐 고유키만 인덱스에서 교체되는지 검증
+        CustomerUpdate update = dao.patch(1L, Customer.builder().email("patched@test.com").build());
+        assertEquals("test1@test.com", update.getBefore().getEmail());
+        assertEquals("patched@test.com", update.getAfter().getEmail());
+        assertEquals("홍길동", update.getAfter().getName(), "입력하지 않은 필드는 유지되어야 함");
+        assertEquals(List.of("email"), List.copyOf(update.changes().keySet()), "바뀐 필드만 변경 내역에 있어야 함");
+        assertFalse(dao.findByEmail("test1@test.com").isPresent(), "수정 전 이메일은 조회되지 않아야 함");
+        assertEquals(1L, dao.findByEmail("patched@test.com").orElseThrow().getId());
+        assertEquals(1L, dao.findByPhoneNumber("01012345678").orElseThrow().getId(), "바뀌지 않은 전화번호는 유지되어야 함");
+
+        dao.insert(Customer.builder().id(2L).name("이몽룡").email("lee@test.com").phoneNumber("01099998888").address("남원").build());
+        assertThrows(ConflictException.class, () -> dao.patch(1L, Customer.builder().name("변경").phoneNumber("01099998888").build()));
+        assertEquals("홍길동", dao.findById(1L).orElseThrow().getName(), "중복이면 어떤 필드도 바뀌지 않아야 함");
+        assertThrows(ConflictException.class, () -> dao.patch(1L, Customer.builder().phoneNumber("01011112222").email("LEE@test.com").build()));
+        assertFalse(dao.findByPhoneNumber("01011112222").isPresent(), "선점했던 전화번호는 원복되어야 함");
+
+        assertThrows(NoChangeException.class, () -> dao.patch(1L, Customer.builder().name("홍길동").build()));
+        assertThrows(NotFoundException.class, () -> dao.patch(999L, Customer.builder().name("없음").build()));
+    }
+
+    @Test
+    void testInsertRejectsDuplicateUniqueKey() {
+        // 등록 시 전화번호/이메일 중복이면 ConflictException이 발생하고, 선점했던 키는 원복되어야 함
+        Customer duplicatedEmail = Customer.builder()
+                .id(2L)
+                .name("중복이메일")
+                .email("TEST1@test.com")
+                .phoneNumber("01022223333")
+                .address("서울시 종로구")
+                .build();
+        assertThrows(ConflictException.class, () -> dao.insert(duplicatedEmail));
+        assertFalse(dao.findById(2L).isPresent(), "중복 고객은 저장되지 않아야 함");
+        assertFalse(dao.findByPhoneNumber("01022223333").isPresent(), "선점했던 전화번호는 원복되어야 함");
+
+        Customer valid = Customer.builder()
+                .id(2L)
+                .name("정상고객")
+                .email("valid@test.com")
+                .phoneNumber("01022223333")
+                .address("서울시 종로구")
+                .build();
+        dao.insert(valid);
+        assertTrue(dao.findById(2L).isPresent(), "원복된 키로는 다시 등록할 수 있어야 함");
+    }
+
+    @Test
+    void testChangeListenerNotifiedInOrder() {
+        // 저장/등록/삭제가 반영 순서대로 변경 리스너에 통지되는지 검증
+        List<String> events = new ArrayList<>();
+        dao.setChangeListener(new AddressBookChangeListener() {
+            @Override
+            public void onSave(Customer customer) {
+                events.add("S" + customer.getId());
+            }
+
+            @Override
+            public void onDelete(Customer customer) {
+                events.add("D" + customer.getId());
+            }
+        });
+        Customer customer = Customer.builder()
+                .id(2L)
+                .name("이몽룡")
+                .email("lee@test.com")
+                .phoneNumber("01099998888")
+                .address("경기도 성남시")
+                .build();
+        dao.insert(customer);
+        dao.restore(customer);
+        dao.delete(customer);
+        dao.delete(customer); // 없는 고객 삭제는 통지하지 않음
+
+        assertEquals(List.of("S2", "S2", "D2"), events);
+    }
+
+    @Test
+    void testCompactStorage() {
+        // 압축 저장 방식에서도 조회/정렬 순회/고유키 인덱스가 같게 동작하고, 데이터가 있으면 저장 방식을 바꿀 수 없어야 함
+        assertThrows(IllegalStateException.class, () -> dao.setStorage("compact"));
+
+        AddressBookDao compact = new AddressBookDao(messageUtil);
+        compact.setStorage("compact");
+        for (long id = 1; id <= 3; id++) {
+            compact.insert(Customer.builder()
+                    .id(id)
+                    .name("고객" + (4 - id))
+                    .email("user" + id + "@test.com")
+                    .phoneNumber("010-0000-000" + id)
+                    .address("서울시 마포구")
+                    .build());
+        }
+        Customer found = compact.findById(2L).orElseThrow();
+        assertEquals("010-0000-0002", found.getPhoneNumber(), "압축할 수 없는 전화번호는 원문 그대로여야 함");
+        assertEquals(2L, compact.findByPhoneNumber("01000000002").orElseThrow().getId());
+        assertSame(found.getAddress(), compact.findById(3L).orElseThrow().getAddress(), "같은 주소는 사전 인스턴스를 공유해야 함");
+
+        try (VersionedCustomerStore.Snapshot snapshot = compact.openSnapshot()) {
+            List<Long> ids = new ArrayList<>();
+            compact.findAllSorted(snapshot, "name", false, null).forEach(c -> ids.add(c.getId()));
+            assertEquals(List.of(3L, 2L, 1L), ids, "이름 오름차순이어야 함");
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompactCustomerCodec의 단위 테스트.
+ * - 부호화/복원 왕복, 전화번호 압축 범위, 사전 공유, 행 회수/재사용 검증
+ */
+class CompactCustomerCodecTest {
+
+    private final CompactCustomerCodec codec = new CompactCustomerCodec();
+
+    @Test
+    void testRoundTrip() {
+        Customer customer = Customer.builder()
+                .id(7L)
+                .name("홍길동")
+                .address("서울시 마포구")
+                .phoneNumber("01012345678")
+                .email("hong@test.com")
+                .build();
+        assertEquals(customer, codec.decode(codec.encode(customer)));
+
+        Customer empty = Customer.builder().id(8L).build();
+        assertEquals(empty, codec.decode(codec.encode(empty)), "null 필드도 그대로 복원되어야 함");
+    }
+
+    @Test
+    void testPhonePacking() {
+        assertEquals("0212345678", CompactCustomerCodec.unpackPhone(CompactCustomerCodec.packPhone("0212345678")), "앞자리 0이 보존되어야 함");
+        assertEquals("99999999999999999", CompactCustomerCodec.unpackPhone(CompactCustomerCodec.packPhone("99999999999999999")));
+        assertEquals(-1, CompactCustomerCodec.packPhone("010-1234-5678"), "숫자 외 문자가 있으면 압축하지 않음");
+        assertEquals(-1, CompactCustomerCodec.packPhone("012345678901234567"), "17자리를 넘으면 압축하지 않음");
+        assertEquals(-1, CompactCustomerCodec.packPhone(""));
+
+        Customer dashed = Customer.builder().id(1L).phoneNumber("010-1234-5678").build();
+        assertEquals("010-1234-5678", codec.decode(codec.encode(dashed)).getPhoneNumber());
+    }
+
+    @Test
+    void testDictionaryShared() {
+        Customer first = Customer.builder().id(1L).name("홍길동").address(new String("서울시 마포구")).build();
+        Customer second = Customer.builder().id(2L).name("이몽룡").address(new String("서울시 마포구")).build();
+
+        Customer decodedFirst = codec.decode(codec.encode(first));
+        Customer decodedSecond = codec.decode(codec.encode(second));
+        assertSame(decodedFirst.getAddress(), decodedSecond.getAddress(), "같은 주소는 하나의 문자열을 공유해야 함");
+        assertEquals("서울시 마포구", decodedSecond.getAddress());
+    }
+
+    @Test
+    void testReleasedRowIsReused() {
+        Customer first = Customer.builder().id(1L).phoneNumber("010-1111-2222").email("first@test.com").build();
+        Object record = codec.encode(first);
+        assertEquals(1, codec.liveRows());
+
+        codec.release(record);
+        assertEquals(0, codec.liveRows());
+        assertNull(codec.decode(record), "회수된 레코드는 null로 읽혀야 함");
+
+        Customer second = Customer.builder().id(2L).phoneNumber("010-3333-4444").email("other@test.com").build();
+        Object reused = codec.encode(second);
+        assertEquals(1, codec.liveRows(), "회수된 행을 재사용해야 함");
+        assertNull(codec.decode(record), "재사용된 행은 이전 레코드로 읽히지 않아야 함");
+        assertEquals(second, codec.decode(reused));
+
+        codec.release(record);
+        assertEquals(second, codec.decode(reused), "이미 회수된 레코드를 다시 회수해도 새 행에 영향이 없어야 함");
+    }
+
+    @Test
+    void testCanonicalizeSharesDictionaryWithoutAllocatingRows() {
+        codec.encode(Customer.builder().id(1L).name("홍길동").address("서울시 마포구").build());
+        Customer customer = Customer.builder().id(2L).name(new String("홍길동")).address(new String("서울시 마포구")).email("a@test.com").build();
+
+        Customer canonical = codec.canonicalize(customer);
+        assertEquals(customer, canonical);
+        assertSame(canonical.getAddress(), codec.canonicalize(canonical).getAddress());
+        assertSame(canonical, codec.canonicalize(canonical), "이미 사전의 문자열이면 같은 객체를 반환해야 함");
+        assertEquals(1, codec.liveRows(), "canonicalize는 행을 만들지 않아야 함");
+    }
+}
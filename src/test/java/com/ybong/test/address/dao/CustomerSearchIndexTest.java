@@ -0,0 +1,105 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CustomerSearchIndex의 단위 테스트.
+ * - bigram 색인 추가/제거 및 후보 조회 검증
+ */
+class CustomerSearchIndexTest {
+
+    private CustomerSearchIndex index;
+    private Customer hong;
+
+    @BeforeEach
+    void setUp() {
+        index = new CustomerSearchIndex();
+        hong = Customer.builder()
+                .id(1L)
+                .name("홍길동")
+                .email("Hong@test.com")
+                .phoneNumber("01012345678")
+                .address("서울시 광진구")
+                .build();
+        index.add(hong);
+        index.add(Customer.builder()
+                .id(2L)
+                .name("이몽룡")
+                .email("lee@test.com")
+                .phoneNumber("01099998888")
+                .address("경기도 성남시")
+                .build());
+    }
+
+    @Test
+    void testCandidatesByField() {
+        // 필드 지정 검색 시 해당 필드 색인만 사용
+        assertArrayEquals(new long[]{1L}, index.candidates("name", "길동"), "이름 bigram으로 후보가 조회되어야 함");
+        assertArrayEquals(new long[]{1L}, index.candidates("email", "hong"), "이메일은 소문자로 색인되어야 함");
+        assertEquals(0, index.candidates("address", "길동").length, "다른 필드 값은 후보가 아니어야 함");
+    }
+
+    @Test
+    void testCandidatesAllFields() {
+        // 필드 미지정 시 전체 필드 후보의 합집합
+        assertArrayEquals(new long[]{1L, 2L}, index.candidates("", "01"), "전화번호 bigram으로 모든 고객이 후보여야 함");
+        assertArrayEquals(new long[]{2L}, index.candidates(null, "성남"), "주소 bigram으로 후보가 조회되어야 함");
+    }
+
+    @Test
+    void testUpdateReplacesOnlyChangedField() {
+        // 수정 시 바뀐 필드의 bigram만 교체되고, 겹치는 bigram과 다른 필드 색인은 유지
+        Customer moved = Customer.builder()
+                .id(1L)
+                .name("홍길동")
+                .email("Hong@test.com")
+                .phoneNumber("01012345678")
+                .address("서울시 마포구")
+                .build();
+        index.update(hong, moved);
+
+        assertArrayEquals(new long[]{1L}, index.candidates("address", "마포"), "새 주소로 조회되어야 함");
+        assertEquals(0, index.candidates("address", "광진").length, "이전 주소 bigram은 제거되어야 함");
+        assertArrayEquals(new long[]{1L}, index.candidates("address", "서울"), "겹치는 bigram은 유지되어야 함");
+        assertArrayEquals(new long[]{1L}, index.candidates("name", "길동"), "바뀌지 않은 필드는 유지되어야 함");
+
+        index.update(moved, null);
+        assertEquals(0, index.candidates("name", "길동").length, "수정 후 값이 null이면 제거여야 함");
+    }
+
+    @Test
+    void testShortKeywordFallsBackToScan() {
+        // 1글자 검색어는 색인을 사용하지 않음
+        assertNull(index.candidates("name", "홍"), "GRAM_SIZE 미만 검색어는 null(전체 조회)이어야 함");
+    }
+
+    @Test
+    void testRemove() {
+        // 제거 후 후보에서 빠지고 빈 포스팅은 정리되어야 함
+        index.remove(hong);
+        assertEquals(0, index.candidates("name", "길동").length, "제거된 고객은 후보가 아니어야 함");
+        assertEquals(2, index.gramCounts().get("name"), "남은 고객의 bigram만 유지되어야 함");
+    }
+
+    @Test
+    void testUnknownFieldIsRejected() {
+        // 색인하지 않는 필드는 후보 조회와 일치 확인 모두 거부
+        assertFalse(CustomerSearchIndex.isSearchField("memo"));
+        assertThrows(IllegalArgumentException.class, () -> index.candidates("memo", "길동"));
+        assertThrows(IllegalArgumentException.class, () -> index.candidates("memo", "홍"));
+        assertThrows(IllegalArgumentException.class, () -> CustomerSearchIndex.matches(hong, "memo", "길동"));
+    }
+
+    @Test
+    void testMatches() {
+        // 최종 확인은 대소문자를 무시한 부분일치
+        assertTrue(CustomerSearchIndex.matches(hong, "email", "hong@"));
+        assertTrue(CustomerSearchIndex.matches(hong, null, "광진"));
+        assertFalse(CustomerSearchIndex.matches(hong, "name", "광진"), "다른 필드 값은 일치하지 않아야 함");
+        assertTrue(CustomerSearchIndex.matches(hong, "name", null), "검색어가 없으면 일치해야 함");
+    }
+}
@@ -0,0 +1,73 @@
+package com.ybong.test.address.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LongChunkedMap의 단위 테스트.
+ * - 청크 범위 저장/조회/제거, 직접 색인 범위를 벗어난 키, 순회 순서 검증
+ */
+class LongChunkedMapTest {
+
+    private final LongChunkedMap<String> map = new LongChunkedMap<>();
+
+    @Test
+    void testPutGetAndRemove() {
+        map.put(0L, "zero");
+        map.put(4095L, "last-of-first-chunk");
+        map.put(4096L, "first-of-second-chunk");
+        map.put(1_000_000L, "grown");
+
+        assertEquals("zero", map.get(0L));
+        assertEquals("last-of-first-chunk", map.get(4095L));
+        assertEquals("first-of-second-chunk", map.get(4096L));
+        assertEquals("grown", map.get(1_000_000L), "디렉토리를 늘린 뒤에도 조회되어야 함");
+        assertNull(map.get(1L));
+        assertNull(map.get(50_000_000L), "청크가 없는 범위는 null이어야 함");
+
+        map.put(4096L, null);
+        assertNull(map.get(4096L), "null 저장은 제거여야 함");
+        map.put(90_000_000L, null); // 청크가 없는 범위의 제거는 무시
+        assertNull(map.get(90_000_000L));
+    }
+
+    @Test
+    void testKeysOutsideDirectRange() {
+        map.put(-1L, "negative");
+        map.put(Long.MAX_VALUE, "max");
+        map.put(1L << 40, "sparse");
+
+        assertEquals("negative", map.get(-1L));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertEquals("sparse", map.get(1L << 40));
+
+        map.put(Long.MAX_VALUE, null);
+        assertNull(map.get(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testIterationOrder() {
+        long[] keys = {9_000L, 3L, 1L << 40, 4_096L, 0L};
+        for (long key : keys) {
+            map.put(key, "v" + key);
+        }
+
+        List<Long> visited = new ArrayList<>();
+        map.forEach((key, value) -> {
+            assertEquals("v" + key, value);
+            visited.add(key);
+        });
+        assertEquals(List.of(0L, 3L, 4_096L, 9_000L, 1L << 40), visited, "직접 색인 범위는 키 오름차순, 이후 보조 맵");
+
+        List<String> values = new ArrayList<>();
+        for (Iterator<String> it = map.values(); it.hasNext(); ) {
+            values.add(it.next());
+        }
+        assertEquals(List.of("v0", "v3", "v4096", "v9000", "v" + (1L << 40)), values);
+    }
+}
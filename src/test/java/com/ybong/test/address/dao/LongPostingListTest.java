@@ -0,0 +1,67 @@
+package com.ybong.test.address.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LongPostingList의 단위 테스트.
+ * - 추가/제거/포함 여부, 배열 블록과 비트맵 블록 전환, 교집합 검증
+ */
+class LongPostingListTest {
+
+    @Test
+    void testAddRemoveAndOrder() {
+        LongPostingList list = new LongPostingList();
+        assertTrue(list.add(70_000L));
+        assertTrue(list.add(3L));
+        assertTrue(list.add(-5L), "음수 ID도 보관되어야 함");
+        assertFalse(list.add(3L), "중복 추가는 무시되어야 함");
+
+        assertEquals(3, list.size());
+        assertArrayEquals(new long[]{-5L, 3L, 70_000L}, list.toArray(), "오름차순으로 반환되어야 함");
+        assertTrue(list.contains(70_000L));
+        assertFalse(list.contains(4L));
+
+        assertTrue(list.remove(3L));
+        assertFalse(list.remove(3L), "없는 ID 제거는 무시되어야 함");
+        assertTrue(list.remove(-5L));
+        assertTrue(list.remove(70_000L));
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new long[0], list.toArray());
+    }
+
+    @Test
+    void testBitmapConversion() {
+        // 한 블록에 배열 한도를 넘게 추가하면 비트맵으로, 절반 이하로 줄면 다시 배열로 전환
+        LongPostingList list = new LongPostingList();
+        LongStream.range(0, 10_000).forEach(list::add);
+        assertEquals(10_000, list.size());
+        assertArrayEquals(LongStream.range(0, 10_000).toArray(), list.toArray());
+
+        LongStream.range(0, 9_000).forEach(list::remove);
+        assertEquals(1_000, list.size());
+        assertFalse(list.contains(8_999L));
+        assertTrue(list.contains(9_000L));
+        assertArrayEquals(LongStream.range(9_000, 10_000).toArray(), list.toArray());
+    }
+
+    @Test
+    void testIntersect() {
+        LongPostingList even = new LongPostingList();
+        LongPostingList triple = new LongPostingList();
+        LongPostingList small = new LongPostingList();
+        LongStream.range(0, 100_000).filter(id -> id % 2 == 0).forEach(even::add);
+        LongStream.range(0, 100_000).filter(id -> id % 3 == 0).forEach(triple::add);
+        small.add(6L);
+        small.add(7L);
+        small.add(99_996L);
+
+        assertArrayEquals(new long[]{6L, 99_996L}, LongPostingList.intersect(List.of(even, triple, small)));
+        assertEquals(16_667, LongPostingList.intersect(List.of(even, triple)).length);
+        assertArrayEquals(new long[0], LongPostingList.intersect(List.of(small, new LongPostingList())));
+    }
+}
@@ -0,0 +1,53 @@
+package com.ybong.test.address.dao;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OffHeapMemory의 단위 테스트.
+ * - 기록/읽기, 해제된 슬롯의 재사용과 세대 번호 검증
+ */
+class OffHeapMemoryTest {
+
+    private final OffHeapMemory memory = new OffHeapMemory();
+
+    @Test
+    void testWriteAndRead() {
+        OffHeapMemory.Slot slot = memory.write(new byte[]{1, 2, 3});
+        assertArrayEquals(new byte[]{1, 2, 3}, memory.read(slot));
+
+        OffHeapMemory.Slot empty = memory.write(new byte[0]);
+        assertArrayEquals(new byte[0], memory.read(empty));
+        assertEquals(32, memory.usedBytes(), "슬롯은 세대 번호 포함 16바이트 단위");
+    }
+
+    @Test
+    void testFreedSlotIsReusedWithNewStamp() {
+        OffHeapMemory.Slot first = memory.write(new byte[20]);
+        memory.free(first);
+        assertNull(memory.read(first), "해제된 슬롯은 읽을 수 없어야 함");
+        assertEquals(0, memory.usedBytes());
+
+        OffHeapMemory.Slot reused = memory.write(new byte[]{9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9});
+        assertEquals(first.address(), reused.address(), "같은 크기의 할당은 해제된 슬롯을 재사용해야 함");
+        assertNotEquals(first.stamp(), reused.stamp());
+        assertNull(memory.read(first), "이전 세대의 슬롯 위치로는 재사용된 데이터를 읽을 수 없어야 함");
+        assertEquals(9, memory.read(reused)[19]);
+
+        memory.free(first); // 이전 세대 해제는 무시
+        assertNotNull(memory.read(reused));
+    }
+
+    @Test
+    void testRecordsSpanMultipleArenas() {
+        byte[] data = new byte[1 << 20];
+        OffHeapMemory.Slot last = null;
+        for (int i = 0; i < 20; i++) {
+            data[0] = (byte) i;
+            last = memory.write(data);
+        }
+        assertEquals(19, memory.read(last)[0]);
+        assertTrue(memory.reservedBytes() > 16 << 20, "영역이 부족하면 새 영역을 할당해야 함");
+    }
+}
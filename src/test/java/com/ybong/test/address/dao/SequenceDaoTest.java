@@ -1,6 +1,7 @@
 package com.ybong.test.address.dao;
 
 import com.ybong.test.address.model.Sequence;
+import com.ybong.test.address.model.SequenceBlock;
 import com.ybong.test.address.util.MessageUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,12 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -64,4 +71,42 @@ class SequenceDaoTest {
         assertEquals("데이터명,MAX_SEQUENCE", csvLines.get(0), "CSV 헤더가 올바르게 반영되어야 함");
         assertTrue(csvLines.get(1).startsWith("address,"), "CSV 데이터가 올바르게 반영되어야 함");
     }
+
+    @Test
+    void testAllocateBlock() {
+        // 구간 예약 테스트
+        SequenceBlock block = dao.allocateBlock("address", 10);
+        assertEquals(2L, block.getFirst(), "예약 구간은 현재 시퀀스 다음부터 시작해야 함");
+        assertEquals(11L, block.getLast(), "예약 구간의 마지막 값이 올바라야 함");
+        assertEquals(11L, dao.getMaxSequence("address"), "최대 시퀀스는 예약 구간까지 증가해야 함");
+        assertEquals(12L, dao.getNextSequence("address"), "예약 이후 발번은 구간 다음 값이어야 함");
+    }
+
+    @Test
+    void testConcurrentNextSequenceUnique() throws InterruptedException {
+        // 다중 스레드 발번 시 중복 ID가 없어야 함 (스레드별 캐시 사용)
+        dao.setCacheSize(16);
+        int threadCount = 8;
+        int perThread = 1000;
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < perThread; j++) {
+                        issued.add(dao.getNextSequence("address"));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        assertEquals(threadCount * perThread, issued.size(), "발번된 ID는 모두 달라야 함");
+        assertTrue(issued.stream().allMatch(id -> id <= dao.getMaxSequence("address")),
+                "최대 시퀀스는 발번된 모든 ID 이상이어야 함");
+    }
 }
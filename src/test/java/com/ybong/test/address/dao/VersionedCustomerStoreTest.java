@@ -0,0 +1,183 @@
+package com.ybong.test.address.dao;
+
+import com.ybong.test.address.model.Customer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VersionedCustomerStore의 단위 테스트.
+ * - 변경/삭제 반영, 스냅샷 격리, 변경 중 스냅샷 순회의 일관성, 삭제 표식 정리, 레코드 변환 실패 시 공개 지속 검증
+ */
+class VersionedCustomerStoreTest {
+
+    private final VersionedCustomerStore store = new VersionedCustomerStore();
+
+    @Test
+    void testComputeAndDelete() {
+        Customer first = customer(1L, "홍길동");
+        assertNull(store.compute(1L, current -> first), "신규 등록이면 이전 값이 없어야 함");
+        assertSame(first, store.get(1L));
+        assertEquals(1, store.size());
+
+        Customer second = customer(1L, "홍길동2");
+        assertSame(first, store.compute(1L, current -> second), "수정이면 이전 값을 반환해야 함");
+        assertSame(second, store.asMap().get(1L));
+
+        assertSame(second, store.compute(1L, current -> null), "삭제면 삭제된 값을 반환해야 함");
+        assertNull(store.get(1L));
+        assertEquals(0, store.size());
+        assertNull(store.compute(1L, current -> null), "없는 값 삭제는 변경이 아님");
+        assertTrue(store.asMap().isEmpty());
+    }
+
+    @Test
+    void testFailedComputeLeavesNoVersion() {
+        store.compute(1L, current -> customer(1L, "홍길동"));
+        assertThrows(IllegalStateException.class, () -> store.compute(2L, current -> {
+            throw new IllegalStateException("rejected");
+        }));
+        assertNull(store.get(2L));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void testFailedEncodeDoesNotBlockPublishing() {
+        // 레코드 변환이 실패해도 버전 번호가 남지 않아 이후 변경과 스냅샷이 멈추지 않아야 함
+        VersionedCustomerStore failing = new VersionedCustomerStore(new CustomerRecordCodec() {
+            @Override
+            public Object encode(Customer customer) {
+                if (customer.getName().isEmpty()) {
+                    throw new IllegalArgumentException("record too large");
+                }
+                return customer;
+            }
+
+            @Override
+            public Customer decode(Object record) {
+                return (Customer) record;
+            }
+        });
+        failing.compute(1L, current -> customer(1L, "홍길동"));
+        assertThrows(IllegalArgumentException.class, () -> failing.compute(2L, current -> customer(2L, "")));
+        assertThrows(IllegalArgumentException.class, () -> failing.compute(1L, current -> customer(1L, "")));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            failing.compute(3L, current -> customer(3L, "이몽룡"));
+            try (VersionedCustomerStore.Snapshot snapshot = failing.snapshot()) {
+                assertEquals(2, snapshot.size());
+                assertEquals("홍길동", snapshot.get(1L).getName(), "실패한 변경은 반영되지 않아야 함");
+                assertNull(snapshot.get(2L));
+            }
+        });
+    }
+
+    @Test
+    void testSnapshotIteratesConsistentlyWhileWriting() throws Exception {
+        // 스냅샷 순회 중 다른 스레드가 계속 수정/삭제/등록해도 순회 결과는 연 시점의 고객과 같아야 함
+        int size = 20_000;
+        for (long id = 1; id <= size; id++) {
+            Customer customer = customer(id, "고객" + id);
+            store.compute(customer.getId(), current -> customer);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (VersionedCustomerStore.Snapshot snapshot = store.snapshot()) {
+            Future<?> writer = executor.submit(() -> {
+                long next = size + 1;
+                while (running.get()) {
+                    long id = next % size + 1;
+                    store.compute(id, current -> current == null ? customer(id, "재등록") : null);
+                    Customer added = customer(next++, "신규");
+                    store.compute(added.getId(), current -> added);
+                }
+            });
+            for (int round = 0; round < 3; round++) {
+                Set<Long> ids = new HashSet<>();
+                for (Customer customer : snapshot) {
+                    assertTrue(ids.add(customer.getId()), "같은 고객이 두 번 순회되지 않아야 함");
+                    assertEquals("고객" + customer.getId(), customer.getName(), "스냅샷 시점의 값이어야 함");
+                }
+                assertEquals(size, ids.size(), "스냅샷 시점의 고객 수와 같아야 함");
+                assertEquals(size, snapshot.size());
+            }
+            running.set(false);
+            writer.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDeletedCustomersStayVisibleToOpenSnapshot() {
+        for (long id = 1; id <= 5_000; id++) {
+            Customer customer = customer(id, "고객" + id);
+            store.compute(customer.getId(), current -> customer);
+        }
+        VersionedCustomerStore.Snapshot snapshot = store.snapshot();
+        for (long id = 1; id <= 5_000; id++) {
+            store.compute(id, current -> null);
+        }
+        assertEquals(5_000, snapshot.stream().count(), "열린 스냅샷에서는 삭제된 고객이 계속 보여야 함");
+        snapshot.close();
+
+        // 스냅샷을 닫은 뒤 삭제가 쌓여 삭제 표식이 정리되어도 조회/순회 결과는 같아야 함
+        for (long id = 5_001; id <= 10_000; id++) {
+            Customer customer = customer(id, "고객" + id);
+            store.compute(customer.getId(), current -> customer);
+            store.compute(customer.getId(), current -> null);
+        }
+        assertEquals(0, store.size());
+        assertTrue(store.asMap().isEmpty());
+        try (VersionedCustomerStore.Snapshot after = store.snapshot()) {
+            assertEquals(0, after.stream().count());
+        }
+    }
+
+    @Test
+    void testOffHeapRecordsReleased() {
+        // 힙 밖 저장 방식에서 수정/삭제로 읽히지 않게 된 레코드는 회수되어 사용량이 늘지 않아야 함
+        OffHeapCustomerCodec codec = new OffHeapCustomerCodec();
+        VersionedCustomerStore offHeap = new VersionedCustomerStore(codec);
+        for (long id = 1; id <= 1_000; id++) {
+            Customer customer = customer(id, "고객" + id);
+            offHeap.compute(customer.getId(), current -> customer);
+        }
+        long used = codec.memory().usedBytes();
+        for (long id = 1; id <= 1_000; id++) {
+            Customer customer = customer(id, "수정" + id);
+            offHeap.compute(customer.getId(), current -> customer);
+        }
+        assertEquals(used, codec.memory().usedBytes(), "이전 버전의 슬롯은 회수되어야 함");
+        assertEquals("수정7", offHeap.get(7L).getName());
+
+        try (VersionedCustomerStore.Snapshot snapshot = offHeap.snapshot()) {
+            offHeap.compute(7L, current -> null);
+            assertEquals("수정7", snapshot.get(7L).getName(), "열린 스냅샷이 읽는 레코드는 회수되지 않아야 함");
+        }
+        offHeap.compute(7L, current -> customer(7L, "재등록")); // 스냅샷을 닫은 뒤의 변경에서 남은 버전 회수
+        for (long id = 1; id <= 1_000; id++) {
+            offHeap.compute(id, current -> null);
+        }
+        assertEquals(0, codec.memory().usedBytes(), "모두 삭제하면 사용 중인 슬롯이 없어야 함");
+    }
+
+    private Customer customer(Long id, String name) {
+        return Customer.builder()
+                .id(id)
+                .name(name)
+                .address("서울시 광진구")
+                .phoneNumber(String.format("010%08d", id))
+                .email("user" + id + "@ybong.com")
+                .build();
+    }
+}
@@ -1,12 +1,18 @@
 package com.ybong.test.address.exception;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ybong.test.address.common.AddressBookMetrics;
 import com.ybong.test.address.util.MessageUtil;
 import com.ybong.test.address.dto.ErrorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -22,6 +28,7 @@ import static org.mockito.Mockito.*;
 class GlobalExceptionHandlerTest {
 
     private GlobalExceptionHandler exceptionHandler;
+    private SimpleMeterRegistry meterRegistry;
 
     @Mock
     private MessageUtil messageUtil;
@@ -29,7 +36,8 @@ class GlobalExceptionHandlerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        exceptionHandler = new GlobalExceptionHandler(messageUtil);
+        meterRegistry = new SimpleMeterRegistry();
+        exceptionHandler = new GlobalExceptionHandler(messageUtil, new AddressBookMetrics(meterRegistry));
         when(messageUtil.getMessage(anyString())).thenReturn("Test Message");
     }
 
@@ -66,6 +74,7 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody());
         String responseMessage = ((ErrorResponse)response.getBody()).getMessage();
         assertTrue(responseMessage.startsWith("이미 등록된"));
+        assertEquals(1.0, meterRegistry.get("addressbook.errors").tag("type", "conflict").counter().count(), "중복 오류 건수가 기록되어야 함");
     }
 
     @Test
@@ -83,6 +92,7 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(errorMessage, ((ErrorResponse)response.getBody()).getMessage());
+        assertEquals(1.0, meterRegistry.get("addressbook.errors").tag("type", "not_found").counter().count(), "미존재 오류 건수가 기록되어야 함");
     }
 
     @Test
@@ -118,4 +128,33 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody());
         assertEquals(errorMessage, ((ErrorResponse)response.getBody()).getMessage());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("클라이언트 오류 경량 예외/샘플링 로그 테스트")
+    void clientErrorsAreLightweightAndSampled() {
+        // Given
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        Logger logger = (Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class);
+        logger.addAppender(appender);
+        ConflictException conflict = new ConflictException("이미 등록된 ID입니다.");
+
+        try {
+            // When
+            exceptionHandler.handleConflict(conflict);
+            exceptionHandler.setClientErrorSampleRate(0.0);
+            exceptionHandler.handleConflict(conflict);
+            exceptionHandler.handleAll(new IllegalStateException("server"));
+
+            // Then
+            assertEquals(0, conflict.getStackTrace().length, "비즈니스 예외는 스택 트레이스를 채우지 않아야 함");
+            assertEquals(2, appender.list.size(), "샘플링 비율 0이면 4xx는 기록하지 않아야 함");
+            ILoggingEvent clientError = appender.list.get(0);
+            assertEquals("status=409 error=conflict message=이미 등록된 ID입니다.", clientError.getFormattedMessage());
+            assertNull(clientError.getThrowableProxy(), "4xx는 스택 트레이스 없이 기록해야 함");
+            assertNotNull(appender.list.get(1).getThrowableProxy(), "5xx는 스택 트레이스와 함께 기록해야 함");
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+}
@@ -44,13 +44,13 @@ class AddressBookPerformanceTest {
 
         // When
         for (Customer customer : customers) {
-            addressBookDao.save(customer);
+            addressBookDao.restore(customer);
         }
         long endTime = System.currentTimeMillis();
         long executionTime = endTime - startTime;
 
         // Then
-        Map<String, Customer> addressBook = addressBookDao.getAddressBook();
+        Map<Long, Customer> addressBook = addressBookDao.getAddressBook();
         assertEquals(BULK_SIZE, addressBook.size(), "모든 고객이 저장되어야 함");
         assertTrue(executionTime < 5000, "대량 데이터 삽입은 5초 이내에 완료되어야 함");
     }
@@ -61,7 +61,7 @@ class AddressBookPerformanceTest {
         // Given
         List<Customer> customers = generateBulkCustomers();
         for (Customer customer : customers) {
-            addressBookDao.save(customer);
+            addressBookDao.restore(customer);
         }
         long startTime = System.currentTimeMillis();
 
@@ -83,7 +83,7 @@ class AddressBookPerformanceTest {
         // Given
         List<Customer> customers = generateBulkCustomers();
         for (Customer customer : customers) {
-            addressBookDao.save(customer);
+            addressBookDao.restore(customer);
         }
         long startTime = System.currentTimeMillis();
 
@@ -95,7 +95,7 @@ class AddressBookPerformanceTest {
         long executionTime = endTime - startTime;
 
         // Then
-        Map<String, Customer> addressBook = addressBookDao.getAddressBook();
+        Map<Long, Customer> addressBook = addressBookDao.getAddressBook();
         assertTrue(addressBook.isEmpty(), "모든 고객이 삭제되어야 함");
         assertTrue(executionTime < 5000, "대량 데이터 삭제는 5초 이내에 완료되어야 함");
     }
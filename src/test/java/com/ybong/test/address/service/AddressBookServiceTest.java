@@ -1,17 +1,27 @@
 package com.ybong.test.address.service;
 
+import com.ybong.test.address.common.AddressBookMetrics;
 import com.ybong.test.address.dao.AddressBookDao;
 import com.ybong.test.address.dao.SequenceDao;
 import com.ybong.test.address.dto.CustomerRequest;
 import com.ybong.test.address.model.Customer;
+import com.ybong.test.address.model.CustomerBulkResult;
+import com.ybong.test.address.model.CustomerDeleteResult;
+import com.ybong.test.address.model.CustomerPage;
+import com.ybong.test.address.model.CustomerUpdate;
+import com.ybong.test.address.model.SequenceBlock;
 import com.ybong.test.address.util.MessageUtil;
+import com.ybong.test.address.util.ValidationUtil;
 import com.ybong.test.address.mapper.CustomerMapper;
+import com.ybong.test.address.exception.BizValidationException;
 import com.ybong.test.address.exception.ConflictException;
 import com.ybong.test.address.exception.NotFoundException;
 import com.ybong.test.address.exception.NoChangeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,11 +34,13 @@ class AddressBookServiceTest {
     SequenceDao sequenceDao = mock(SequenceDao.class);
     MessageUtil messageUtil = mock(MessageUtil.class);
     CustomerMapper customerMapper = mock(CustomerMapper.class);
+    ValidationUtil validationUtil = mock(ValidationUtil.class);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     AddressBookService service;
 
     @BeforeEach
     void setUp() {
-        service = new AddressBookService(addressBookDao, messageUtil, sequenceDao, customerMapper);
+        service = new AddressBookService(addressBookDao, messageUtil, sequenceDao, customerMapper, validationUtil, new AddressBookMetrics(meterRegistry));
         
         // 기본 메시지 설정
         when(messageUtil.getMessage("validation.conflict.phone")).thenReturn("전화번호가 이미 등록되어 있습니다");
@@ -59,10 +71,8 @@ class AddressBookServiceTest {
                 .name("서비스단위테스트")
                 .build();
 
-        when(addressBookDao.findByPhoneNumber(anyString())).thenReturn(Optional.empty());
-        when(addressBookDao.findByEmail(anyString())).thenReturn(Optional.empty());
         when(customerMapper.toCustomer(any(CustomerRequest.class))).thenReturn(customer);
-        when(addressBookDao.save(any(Customer.class))).thenReturn(customer);
+        when(addressBookDao.insert(any(Customer.class))).thenReturn(customer);
 
         // When
         Customer result = service.addCustomer(req);
@@ -91,8 +101,9 @@ class AddressBookServiceTest {
                 .name("서비스단위테스트")
                 .build();
 
-        when(addressBookDao.findByPhoneNumber(anyString())).thenReturn(java.util.Optional.of(existingCustomer));
         when(customerMapper.toCustomer(any(CustomerRequest.class))).thenReturn(existingCustomer);
+        when(addressBookDao.insert(any(Customer.class)))
+                .thenThrow(new ConflictException("전화번호가 이미 등록되어 있습니다"));
 
         ConflictException exception = assertThrows(ConflictException.class, () -> service.addCustomer(req));
         assertEquals("전화번호가 이미 등록되어 있습니다", exception.getMessage());
@@ -123,9 +134,9 @@ class AddressBookServiceTest {
                 .name("서비스단위테스트")
                 .build();
 
-        when(addressBookDao.findByPhoneNumber(anyString())).thenReturn(java.util.Optional.empty());
-        when(addressBookDao.findByEmail(anyString())).thenReturn(java.util.Optional.of(existingCustomer));
         when(customerMapper.toCustomer(any(CustomerRequest.class))).thenReturn(mappedReq);
+        when(addressBookDao.insert(any(Customer.class)))
+                .thenThrow(new ConflictException("이메일이 이미 등록되어 있습니다"));
 
         ConflictException exception = assertThrows(ConflictException.class, () -> service.addCustomer(req));
         assertEquals("이메일이 이미 등록되어 있습니다", exception.getMessage());
@@ -192,21 +203,21 @@ class AddressBookServiceTest {
 
     @Test
     void testSearchCustomers() {
-        // 고객 검색 기능 테스트
+        // 고객 검색 기능 테스트 (색인을 사용하는 실제 DAO 기준)
         String filter = "name";
         String keyword = "홍길동";
         String sortBy = "name";
         String sortDir = "asc";
-        List<Customer> expectedCustomers = List.of(
+        AddressBookService searchService = serviceWithDao(
             Customer.builder().id(1L).name("홍길동").email("hong@test.com").phoneNumber("010-1234-5678").build(),
             Customer.builder().id(2L).name("홍길순").email("hong2@test.com").phoneNumber("010-8765-4321").build()
         );
-        when(addressBookDao.getAddressBook()).thenReturn(Map.of("1", expectedCustomers.get(0), "2", expectedCustomers.get(1)));
 
-        List<Customer> result = service.searchCustomers(filter, keyword, sortBy, sortDir);
+        List<Customer> result = searchService.searchCustomers(filter, keyword, sortBy, sortDir);
 
         assertNotNull(result);
         assertFalse(result.isEmpty(), "검색 결과가 존재해야 함");
+        assertTrue(result.stream().allMatch(c -> c.getName().contains(keyword)), "검색어를 포함한 고객만 조회되어야 함");
     }
 
     @Test
@@ -237,13 +248,13 @@ class AddressBookServiceTest {
                 .build();
 
         when(addressBookDao.findById(id)).thenReturn(java.util.Optional.of(existingCustomer));
-        when(addressBookDao.findByPhoneNumber(anyString())).thenReturn(java.util.Optional.empty());
-        when(addressBookDao.findByEmail(anyString())).thenReturn(java.util.Optional.empty());
+        when(addressBookDao.update(updatedCustomer)).thenReturn(new CustomerUpdate(existingCustomer, updatedCustomer));
         when(customerMapper.toCustomer(any(CustomerRequest.class))).thenReturn(updatedCustomer);
 
         var result = service.updateCustomer(id, updateReq);
 
         assertNotNull(result);
+        assertEquals("기존고객", result.get("before").getName());
         assertEquals("수정테스트", result.get("after").getName());
         assertEquals("부산광역시", result.get("after").getAddress());
     }
@@ -264,4 +275,132 @@ class AddressBookServiceTest {
         assertNotNull(deletedCustomers);
         assertEquals(2, deletedCustomers.size(), "삭제된 고객 수가 일치해야 함");
     }
+
+    @Test
+    void testSearchCustomerPage() {
+        // 페이지/커서 조회 테스트: 전체 건수는 유지하고 요청한 구간만 반환
+        String[] names = {"마", "가", "라", "나", "다"};
+        Customer[] customers = new Customer[names.length];
+        for (int i = 0; i < names.length; i++) {
+            customers[i] = Customer.builder().id((long) i + 1).name(names[i]).email(i + "@test.com").phoneNumber("0100000000" + i).build();
+        }
+        AddressBookService service = serviceWithDao(customers);
+
+        CustomerPage first = service.searchCustomerPage(null, null, "name", "asc", 0, 2, null);
+        assertEquals(5, first.getCount(), "전체 검색 건수가 유지되어야 함");
+        assertEquals(List.of("가", "나"), first.getCustomers().stream().map(Customer::getName).toList());
+        assertNotNull(first.getNextCursor(), "다음 페이지가 있으면 커서가 있어야 함");
+
+        CustomerPage second = service.searchCustomerPage(null, null, "name", "asc", null, 2, first.getNextCursor());
+        assertEquals(List.of("다", "라"), second.getCustomers().stream().map(Customer::getName).toList());
+
+        CustomerPage last = service.searchCustomerPage(null, null, "name", "desc", 2, 2, null);
+        assertEquals(List.of("가"), last.getCustomers().stream().map(Customer::getName).toList());
+        assertNull(last.getNextCursor(), "마지막 페이지는 커서가 없어야 함");
+    }
+
+    @Test
+    void testSearchCustomerPageWithKeyword() {
+        // 검색어 + 페이징: 후보가 적을 때(힙 선택)도 정렬 순서와 전체 건수가 맞아야 함
+        List<Customer> customers = new java.util.ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String name = i % 10 == 0 ? "홍길동" + i : "이몽룡" + i;
+            customers.add(Customer.builder().id((long) i + 1).name(name).email(i + "@test.com").phoneNumber("010" + (10000000 + i)).build());
+        }
+        AddressBookService service = serviceWithDao(customers.toArray(new Customer[0]));
+
+        CustomerPage page = service.searchCustomerPage("name", "길동", "name", "desc", 0, 3, null);
+        assertEquals(4, page.getCount(), "검색어를 포함한 전체 건수여야 함");
+        assertEquals(List.of("홍길동30", "홍길동20", "홍길동10"), page.getCustomers().stream().map(Customer::getName).toList());
+
+        CustomerPage next = service.searchCustomerPage("name", "길동", "name", "desc", null, 3, page.getNextCursor());
+        assertEquals(List.of("홍길동0"), next.getCustomers().stream().map(Customer::getName).toList());
+        assertNull(next.getNextCursor(), "마지막 페이지는 커서가 없어야 함");
+        assertEquals(2, meterRegistry.get("addressbook.search.results").summary().count(), "검색마다 결과 건수가 기록되어야 함");
+        assertEquals(8.0, meterRegistry.get("addressbook.search.results").summary().totalAmount());
+    }
+
+    @Test
+    void testSearchRejectsUnknownFilter() {
+        // 색인하지 않는 검색 필드는 후보 조회 방식과 관계없이 같은 검증 오류
+        AddressBookService service = serviceWithDao(Customer.builder().id(1L).name("홍길동").email("a@test.com").phoneNumber("01011112222").build());
+
+        assertThrows(BizValidationException.class, () -> service.searchCustomerPage("memo", "길동", "name", "asc", null, null, null));
+        assertThrows(BizValidationException.class, () -> service.searchCustomerPage("memo", "홍", "name", "asc", null, null, null));
+        assertThrows(BizValidationException.class, () -> service.streamCustomers("memo", null, "name", "asc", c -> { }));
+    }
+
+    @Test
+    void testAddCustomersReportsPerItemResults() {
+        // 대량 등록: 입력값 오류, 저장된 고객과 중복, 요청 안에서 중복인 항목만 실패하고 나머지는 예약한 ID 구간으로 등록
+        AddressBookService bulk = serviceWithDao(Customer.builder()
+                .id(1L).name("기존").email("old@test.com").phoneNumber("01011110000").address("서울").build());
+        when(messageUtil.getMessage("validation.conflict.phone")).thenReturn("phone");
+        when(messageUtil.getMessage("validation.conflict.email")).thenReturn("email");
+        when(validationUtil.firstViolation(any())).thenAnswer(inv -> {
+            CustomerRequest req = inv.getArgument(0);
+            return req.getName().isBlank() ? "이름을 입력해주세요." : null;
+        });
+        when(customerMapper.toCustomer(any(CustomerRequest.class))).thenAnswer(inv -> {
+            CustomerRequest req = inv.getArgument(0);
+            return Customer.builder().name(req.getName()).email(req.getEmail())
+                    .phoneNumber(req.getPhoneNumber().replace("-", "")).address(req.getAddress()).build();
+        });
+        when(sequenceDao.allocateBlock(any(), anyInt())).thenAnswer(inv -> new SequenceBlock(100L, inv.getArgument(1)));
+
+        List<CustomerRequest> requests = List.of(
+                request("신규1", "new1@test.com", "010-2222-0001"),
+                request("", "blank@test.com", "010-2222-0002"),
+                request("기존전화", "other@test.com", "010-1111-0000"),
+                request("신규2", "NEW1@test.com", "010-2222-0003"),
+                request("신규3", "new3@test.com", "010-2222-0004"));
+        List<CustomerBulkResult> results = bulk.addCustomers(requests);
+
+        assertEquals(List.of(CustomerBulkResult.Status.CREATED, CustomerBulkResult.Status.INVALID,
+                        CustomerBulkResult.Status.CONFLICT, CustomerBulkResult.Status.CONFLICT, CustomerBulkResult.Status.CREATED),
+                results.stream().map(CustomerBulkResult::getStatus).toList());
+        assertEquals("phone", results.get(2).getMessage());
+        assertEquals("email", results.get(3).getMessage(), "요청 안의 이메일 중복(대소문자 무시)이어야 함");
+        assertEquals(100L, results.get(0).getCustomer().getId());
+        assertEquals(101L, results.get(4).getCustomer().getId(), "등록할 항목 수만큼만 ID를 예약해야 함");
+        verify(sequenceDao).allocateBlock(any(), eq(2));
+        assertEquals(3, bulk.searchCustomers(null, null, null, null).size());
+    }
+
+    @Test
+    void testDeleteCustomersInBatchReportsPerIdResults() {
+        // 일괄 삭제: 없는 ID/중복 ID/누락이 있어도 나머지는 삭제하고 ID별 결과를 요청 순서대로 반환
+        AddressBookService batch = serviceWithDao(
+                Customer.builder().id(1L).name("삭제1").email("d1@test.com").phoneNumber("01000000001").build(),
+                Customer.builder().id(2L).name("삭제2").email("d2@test.com").phoneNumber("01000000002").build(),
+                Customer.builder().id(3L).name("유지").email("d3@test.com").phoneNumber("01000000003").build());
+
+        List<CustomerDeleteResult> results = batch.deleteCustomersInBatch(Arrays.asList(1L, 999L, 2L, 1L, null));
+
+        assertEquals(List.of(CustomerDeleteResult.Status.DELETED, CustomerDeleteResult.Status.NOT_FOUND,
+                        CustomerDeleteResult.Status.DELETED, CustomerDeleteResult.Status.DUPLICATE, CustomerDeleteResult.Status.INVALID),
+                results.stream().map(CustomerDeleteResult::getStatus).toList());
+        assertEquals(999L, results.get(1).getId());
+        assertEquals(List.of(3L), batch.searchCustomers(null, null, null, null).stream().map(Customer::getId).toList());
+    }
+
+    @Test
+    void testDeleteCustomersInBatchRejectsEmptyRequest() {
+        // 삭제할 ID가 없으면 BizValidationException 발생
+        assertThrows(BizValidationException.class, () -> service.deleteCustomersInBatch(List.of()));
+        verify(addressBookDao, never()).deleteAll(any());
+    }
+
+    private CustomerRequest request(String name, String email, String phoneNumber) {
+        return CustomerRequest.builder().name(name).email(email).phoneNumber(phoneNumber).address("서울").build();
+    }
+
+    // 실제 DAO(색인 포함)에 고객을 저장한 서비스 생성
+    private AddressBookService serviceWithDao(Customer... customers) {
+        AddressBookDao dao = new AddressBookDao(messageUtil);
+        for (Customer customer : customers) {
+            dao.restore(customer);
+        }
+        return new AddressBookService(dao, messageUtil, sequenceDao, customerMapper, validationUtil, new AddressBookMetrics(meterRegistry));
+    }
 }